@@ -0,0 +1,51 @@
+/*
+ * node_modules 의 라이브러리를 src/main/resources/static/dist 의 vendor.js, vendor.css 로 묶고
+ * gzip, brotli 로 미리 압축한다. 파일명 해시는 애플리케이션의 VersionResourceResolver 가 콘텐츠 기준으로 붙인다.
+ * 이 디렉터리는 정적 리소스 밖에 두어 빌드 스크립트와 package.json 이 웹으로 노출되지 않게 한다.
+ */
+const fs = require('fs');
+const path = require('path');
+const zlib = require('zlib');
+
+const modules = path.join(__dirname, 'node_modules');
+const dist = path.join(__dirname, '..', 'src', 'main', 'resources', 'static', 'dist');
+
+const scripts = [
+  'jquery/dist/jquery.slim.min.js',
+  'popper.js/dist/umd/popper.min.js',
+  'bootstrap/dist/js/bootstrap.min.js',
+  'jdenticon/dist/jdenticon.min.js',
+  'cropperjs/dist/cropper.min.js',
+  'jquery-cropper/dist/jquery-cropper.min.js'
+];
+
+const styles = [
+  'bootstrap/dist/css/bootstrap.min.css',
+  '@fortawesome/fontawesome-free/css/all.min.css',
+  'cropperjs/dist/cropper.min.css'
+];
+
+function read(file) {
+  return fs.readFileSync(path.join(modules, file), 'utf8')
+    .replace(/\/\/# sourceMappingURL=.*$/gm, '')
+    .replace(/\/\*# sourceMappingURL=.*\*\//gm, '');
+}
+
+function write(name, content) {
+  const target = path.join(dist, name);
+  fs.writeFileSync(target, content);
+  fs.writeFileSync(target + '.gz', zlib.gzipSync(content, {level: zlib.constants.Z_BEST_COMPRESSION}));
+  fs.writeFileSync(target + '.br', zlib.brotliCompressSync(content, {
+    params: {[zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY}
+  }));
+  console.log(`${name}: ${Buffer.byteLength(content)} bytes`);
+}
+
+fs.rmSync(dist, {recursive: true, force: true});
+fs.mkdirSync(path.join(dist, 'webfonts'), {recursive: true});
+
+write('vendor.js', scripts.map(read).join(';\n'));
+write('vendor.css', styles.map(read).join('\n').replace(/\.\.\/webfonts\//g, 'webfonts/'));
+
+const webfonts = path.join(modules, '@fortawesome/fontawesome-free/webfonts');
+fs.readdirSync(webfonts).forEach(font => fs.copyFileSync(path.join(webfonts, font), path.join(dist, 'webfonts', font)));
@@ -0,0 +1,29 @@
+#!/usr/bin/env bash
+# 빌드된 jar 를 풀어 AppCDS 아카이브(target/cds/app.jsa)를 만든다. JDK 13 이상이 필요하다.
+# 첫 요청까지 처리한 뒤 종료하므로 요청 처리에 필요한 클래스도 아카이브에 들어간다.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR=$(ls target/*.jar | grep -v original | head -n 1)
+PORT=${PORT:-18080}
+CDS_DIR=target/cds
+
+rm -rf "$CDS_DIR"
+mkdir -p "$CDS_DIR/exploded"
+(cd "$CDS_DIR/exploded" && jar xf "../../../$JAR")
+# CDS 는 클래스패스의 디렉터리를 허용하지 않으므로 애플리케이션 클래스를 jar 로 다시 묶는다.
+jar cf "$CDS_DIR/app.jar" -C "$CDS_DIR/exploded/BOOT-INF/classes" .
+
+java -XX:ArchiveClassesAtExit="$CDS_DIR/app.jsa" \
+	-cp "$CDS_DIR/app.jar:$CDS_DIR/exploded/BOOT-INF/lib/*" \
+	com.studyolle.InflearnStudyolleApplication \
+	--spring.profiles.active=fast-start,cds-training \
+	--server.port="$PORT" \
+	--app.profile-image.location=target/profile-images &
+PID=$!
+
+until curl -fs -o /dev/null "http://localhost:$PORT/login"; do
+	sleep 0.2
+done
+wait "$PID" || true
+echo "AppCDS archive: $CDS_DIR/app.jsa"
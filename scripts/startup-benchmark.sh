@@ -0,0 +1,36 @@
+#!/usr/bin/env bash
+# 기본 실행, fast-start 프로파일, fast-start + AppCDS 의 첫 요청까지 걸린 시간(ms)을 RUNS 번씩 잰다.
+# ./mvnw package 와 scripts/build-cds-archive.sh 를 먼저 실행해야 한다.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+CDS_DIR=target/cds
+CLASSPATH="$CDS_DIR/app.jar:$CDS_DIR/exploded/BOOT-INF/lib/*"
+
+measure() {
+	local name=$1
+	shift
+	local total=0
+	for i in $(seq "$RUNS"); do
+		local start
+		start=$(date +%s%3N)
+		"$@" --server.port="$PORT" --logging.level.root=warn --app.profile-image.location=target/profile-images > /dev/null 2>&1 &
+		local pid=$!
+		until curl -fs -o /dev/null "http://localhost:$PORT/login"; do
+			sleep 0.05
+		done
+		local elapsed=$(($(date +%s%3N) - start))
+		total=$((total + elapsed))
+		kill "$pid"
+		wait "$pid" || true
+	done
+	echo "$name: $((total / RUNS))ms to first request (average of $RUNS)"
+}
+
+measure "default" java -cp "$CLASSPATH" com.studyolle.InflearnStudyolleApplication
+measure "fast-start" java -cp "$CLASSPATH" com.studyolle.InflearnStudyolleApplication \
+	--spring.profiles.active=fast-start
+measure "fast-start + AppCDS" java -XX:SharedArchiveFile="$CDS_DIR/app.jsa" -cp "$CLASSPATH" \
+	com.studyolle.InflearnStudyolleApplication --spring.profiles.active=fast-start
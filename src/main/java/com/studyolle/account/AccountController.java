@@ -12,6 +12,8 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 
 import com.studyolle.domain.Account;
+import com.studyolle.recommend.SimilarAccountService;
+import com.studyolle.statistics.SignUpStatistics;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
@@ -19,9 +21,14 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 @Controller
 @RequiredArgsConstructor
 public class AccountController {
+	private static final int SIMILAR_ACCOUNT_LIMIT = 5;
+
 	private final SignUpFormValidator signUpFormValidator;
 	private final AccountService accountService;
 	private final AccountRepository accountRepository;
+	private final PublicProfileCache publicProfileCache;
+	private final SignUpStatistics signUpStatistics;
+	private final SimilarAccountService similarAccountService;
 
 	@InitBinder("signUpForm")
 	public void initBinder(WebDataBinder binder) {
@@ -65,28 +72,38 @@ public class AccountController {
 	@GetMapping("/check-email-token")
 	public String checkEmailToken(String token, String email, Model model) {
 		String view = "account/checked-email";
-		Account account = accountRepository.findByEmail(email);
+		Account account = accountService.completeSignUp(email, token);
 
-		if (account == null || !account.isValidToken(token)) {
+		if (account == null) {
 			model.addAttribute("error", "wrong");
 			return view;
 		}
 
-		accountService.completeSignUp(account);
-		model.addAttribute("numberOfUser", accountRepository.count());
+		model.addAttribute("numberOfUser", signUpStatistics.getNumberOfUser());
 		model.addAttribute("nickname", account.getNickname());
 		return view;
 	}
 
 	@GetMapping("/profile/{nickname}")
 	public String viewProfile(@PathVariable String nickname, Model model, @CurrentUser Account account) {
-		Account byNickname = accountRepository.findByNickname(nickname);
-		if (byNickname == null) {
+		AccountVersion accountVersion = accountRepository.findVersionByNickname(nickname);
+		if (accountVersion == null) {
 			throw new IllegalArgumentException(nickname + "에 해당하는 사용자가 없습니다.");
 		}
 
-		model.addAttribute("account", byNickname);
-		model.addAttribute("isOwner", account.equals(byNickname));
+		PublicProfile publicProfile = publicProfileCache.get(accountVersion);
+		if (publicProfile == null) {
+			publicProfile = publicProfileCache.render(accountRepository.findByNickname(nickname));
+		}
+
+		boolean isOwner = account != null && account.getId().equals(accountVersion.getId());
+		if (isOwner) {
+			model.addAttribute("account", account);
+		}
+		model.addAttribute("publicProfile", publicProfile);
+		model.addAttribute("isOwner", isOwner);
+		model.addAttribute("similarAccounts",
+			similarAccountService.findSimilar(accountVersion.getId(), SIMILAR_ACCOUNT_LIMIT));
 		return "account/profile";
 	}
 
@@ -116,14 +133,11 @@ public class AccountController {
 
 	@GetMapping("/login-by-email")
 	public String loginByEmail(String token, String email, Model model) {
-		Account account = accountRepository.findByEmail(email);
+		Account account = accountService.loginByEmail(email, token);
 
-		if (account == null || !account.isValidToken(token)) {
+		if (account == null) {
 			model.addAttribute("error", "로그인할 수 없습니다.");
-			return "account/logged-in-by-email";
 		}
-
-		accountService.login(account);
 		return "account/logged-in-by-email";
 	}
 }
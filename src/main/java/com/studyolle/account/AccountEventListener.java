@@ -0,0 +1,43 @@
+package com.studyolle.account;
+
+import com.studyolle.account.event.AccountCreated;
+import com.studyolle.account.event.NicknameChanged;
+import com.studyolle.account.event.ProfileUpdated;
+import com.studyolle.main.NavbarFragmentCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Async
+@Component
+@RequiredArgsConstructor
+public class AccountEventListener {
+	private final AccountMailer accountMailer;
+	private final PublicProfileCache publicProfileCache;
+	private final NavbarFragmentCache navbarFragmentCache;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void sendSignUpConfirmEmail(AccountCreated event) {
+		if (!event.isSendConfirmEmail()) {
+			return;
+		}
+		accountMailer.sendSignUpConfirmEmail(event.getAccount());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void evictProfileCaches(ProfileUpdated event) {
+		evictCaches(event.getAccount().getId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void evictProfileCaches(NicknameChanged event) {
+		evictCaches(event.getAccount().getId());
+	}
+
+	private void evictCaches(Long accountId) {
+		publicProfileCache.evict(accountId);
+		navbarFragmentCache.evict(accountId);
+	}
+}
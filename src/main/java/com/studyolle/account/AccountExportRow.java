@@ -0,0 +1,15 @@
+package com.studyolle.account;
+
+import java.time.LocalDateTime;
+
+public interface AccountExportRow {
+	Long getId();
+
+	String getEmail();
+
+	String getNickname();
+
+	boolean isEmailVerified();
+
+	LocalDateTime getJoinedAt();
+}
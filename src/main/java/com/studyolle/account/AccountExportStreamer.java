@@ -0,0 +1,37 @@
+package com.studyolle.account;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계정 내보내기를 id 커서(keyset)로 chunkSize 건씩 읽어 넘긴다. 한 번에 한 묶음만 메모리에 둔다.
+ */
+@Component
+public class AccountExportStreamer {
+	private final int chunkSize;
+
+	public AccountExportStreamer(@Value("${app.account-export.chunk-size:1000}") int chunkSize) {
+		this.chunkSize = chunkSize;
+	}
+
+	public <T> void stream(BiFunction<Long, Pageable, List<T>> findAfter, Function<T, Long> idOf,
+	                       ChunkWriter<T> writer) throws IOException {
+		Pageable page = PageRequest.of(0, chunkSize);
+		List<T> chunk = findAfter.apply(0L, page);
+		while (!chunk.isEmpty()) {
+			writer.write(chunk);
+			chunk = chunk.size() < chunkSize ? List.of() : findAfter.apply(idOf.apply(chunk.get(chunk.size() - 1)), page);
+		}
+	}
+
+	@FunctionalInterface
+	public interface ChunkWriter<T> {
+		void write(List<T> chunk) throws IOException;
+	}
+}
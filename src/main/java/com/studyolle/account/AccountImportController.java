@@ -0,0 +1,74 @@
+package com.studyolle.account;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequiredArgsConstructor
+public class AccountImportController {
+	private final AccountImportService accountImportService;
+	private final AccountRepository accountRepository;
+	private final AccountExportStreamer accountExportStreamer;
+
+	@PostMapping("/accounts/import")
+	public ResponseEntity<?> importAccounts(@RequestParam MultipartFile file,
+	                                        @RequestParam(defaultValue = "false") boolean sendConfirmEmail)
+		throws IOException {
+		String filename = file.getOriginalFilename() == null ? "" : file.getOriginalFilename().toLowerCase();
+		boolean jsonLines = filename.endsWith(".jsonl") || filename.endsWith(".ndjson");
+
+		try (BufferedReader reader = new BufferedReader(
+			new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+			return ResponseEntity.ok(accountImportService.importAccounts(reader, jsonLines, sendConfirmEmail));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+		}
+	}
+
+	@GetMapping("/accounts/export.csv")
+	public ResponseEntity<StreamingResponseBody> exportCsv() {
+		StreamingResponseBody body = outputStream -> {
+			Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+			writer.write("id,email,nickname,emailVerified,joinedAt\n");
+			accountExportStreamer.stream(accountRepository::findExportRowsByIdGreaterThanOrderByIdAsc,
+				AccountExportRow::getId, chunk -> {
+					for (AccountExportRow row : chunk) {
+						writer.write(row.getId() + "," + csv(row.getEmail()) + "," + csv(row.getNickname()) + ","
+							+ row.isEmailVerified() + "," + (row.getJoinedAt() == null ? "" : row.getJoinedAt()) + "\n");
+					}
+					writer.flush();
+				});
+			writer.flush();
+		};
+		return ResponseEntity.ok()
+			.contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+			.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"accounts.csv\"")
+			.body(body);
+	}
+
+	private static String csv(String value) {
+		if (value == null) {
+			return "";
+		}
+		if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+			return "\"" + value.replace("\"", "\"\"") + "\"";
+		}
+		return value;
+	}
+}
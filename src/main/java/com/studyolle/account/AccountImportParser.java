@@ -0,0 +1,139 @@
+package com.studyolle.account;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+abstract class AccountImportParser {
+	private final BufferedReader reader;
+	private int line;
+
+	AccountImportParser(BufferedReader reader) {
+		this.reader = reader;
+	}
+
+	Row next() throws IOException {
+		String text;
+		while ((text = reader.readLine()) != null) {
+			line++;
+			Row row = text.isBlank() ? null : parse(line, text);
+			if (row != null) {
+				return row;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 건너뛸 줄이면 null 을 반환한다.
+	 */
+	abstract Row parse(int line, String text);
+
+	@Getter
+	static class Row {
+		private final int line;
+		private final SignUpForm form;
+		private final String error;
+
+		private Row(int line, SignUpForm form, String error) {
+			this.line = line;
+			this.form = form;
+			this.error = error;
+		}
+
+		static Row of(int line, SignUpForm form) {
+			return new Row(line, form, null);
+		}
+
+		static Row error(int line, String error) {
+			return new Row(line, null, error);
+		}
+	}
+
+	static class JsonLines extends AccountImportParser {
+		private final ObjectMapper objectMapper;
+
+		JsonLines(BufferedReader reader, ObjectMapper objectMapper) {
+			super(reader);
+			this.objectMapper = objectMapper;
+		}
+
+		@Override
+		Row parse(int line, String text) {
+			try {
+				return Row.of(line, objectMapper.readValue(text, SignUpForm.class));
+			} catch (JsonProcessingException e) {
+				return Row.error(line, "JSON 형식이 올바르지 않습니다.");
+			}
+		}
+	}
+
+	/**
+	 * 첫 줄은 헤더. 큰따옴표로 감싼 값과 그 안의 "" 이스케이프를 처리한다.
+	 */
+	static class Csv extends AccountImportParser {
+		private int emailColumn = -1;
+		private int nicknameColumn = -1;
+		private int passwordColumn = -1;
+
+		Csv(BufferedReader reader) {
+			super(reader);
+		}
+
+		@Override
+		Row parse(int line, String text) {
+			List<String> values = split(text);
+			if (emailColumn < 0) {
+				emailColumn = values.indexOf("email");
+				nicknameColumn = values.indexOf("nickname");
+				passwordColumn = values.indexOf("password");
+				if (emailColumn < 0 || nicknameColumn < 0 || passwordColumn < 0) {
+					throw new IllegalArgumentException("CSV 헤더에 email, nickname, password 가 모두 있어야 합니다.");
+				}
+				return null;
+			}
+
+			int columns = Math.max(emailColumn, Math.max(nicknameColumn, passwordColumn));
+			if (values.size() <= columns) {
+				return Row.error(line, "컬럼 수가 부족합니다.");
+			}
+			SignUpForm form = new SignUpForm();
+			form.setEmail(values.get(emailColumn));
+			form.setNickname(values.get(nicknameColumn));
+			form.setPassword(values.get(passwordColumn));
+			return Row.of(line, form);
+		}
+
+		static List<String> split(String text) {
+			List<String> values = new ArrayList<>();
+			StringBuilder value = new StringBuilder();
+			boolean quoted = false;
+			for (int i = 0; i < text.length(); i++) {
+				char c = text.charAt(i);
+				if (quoted) {
+					if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+						value.append('"');
+						i++;
+					} else if (c == '"') {
+						quoted = false;
+					} else {
+						value.append(c);
+					}
+				} else if (c == '"') {
+					quoted = true;
+				} else if (c == ',') {
+					values.add(value.toString());
+					value.setLength(0);
+				} else {
+					value.append(c);
+				}
+			}
+			values.add(value.toString());
+			return values;
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.studyolle.account;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+public class AccountImportReport {
+	private int total;
+	private int imported;
+	private final List<RowError> errors = new ArrayList<>();
+	private long elapsedMillis;
+
+	void addRow() {
+		total++;
+	}
+
+	void addImported(int count) {
+		imported += count;
+	}
+
+	void addError(int line, String message) {
+		errors.add(new RowError(line, message));
+	}
+
+	void finish(long elapsedMillis) {
+		this.elapsedMillis = elapsedMillis;
+	}
+
+	public double getAccountsPerSecond() {
+		return elapsedMillis == 0 ? imported : imported * 1000.0 / elapsedMillis;
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	public static class RowError {
+		private final int line;
+		private final String message;
+	}
+}
@@ -0,0 +1,169 @@
+package com.studyolle.account;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyolle.account.event.AccountCreated;
+import com.studyolle.domain.Account;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * CSV(email,nickname,password 헤더) 또는 JSONL 파일로 계정을 일괄 생성한다.
+ * 파일은 chunk 단위로 읽어 검증, 중복 검사, 비밀번호 해시(병렬)를 거친 뒤 chunk 마다 한 트랜잭션으로 저장하므로
+ * 한 chunk 의 insert 는 JDBC batch 로 나가고, 실패해도 이미 커밋된 chunk 는 남는다.
+ * 검사 이후 동시에 가입한 계정과 겹쳐 chunk 저장이 실패하면 그 chunk 만 한 건씩 다시 저장해 겹친 행을 오류로 보고한다.
+ * 가입 확인 메일은 sendConfirmEmail 을 켰을 때만 보낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountImportService {
+	private final AccountRepository accountRepository;
+	private final PasswordEncoder passwordEncoder;
+	private final Validator validator;
+	private final ObjectMapper objectMapper;
+	private final PlatformTransactionManager transactionManager;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Value("${app.account-import.chunk-size:500}")
+	private int chunkSize;
+
+	public AccountImportReport importAccounts(BufferedReader reader, boolean jsonLines, boolean sendConfirmEmail)
+		throws IOException {
+		AccountImportReport report = new AccountImportReport();
+		long start = System.currentTimeMillis();
+		Set<String> emails = new HashSet<>();
+		Set<String> nicknames = new HashSet<>();
+
+		AccountImportParser parser = jsonLines ? new AccountImportParser.JsonLines(reader, objectMapper)
+			: new AccountImportParser.Csv(reader);
+		List<AccountImportParser.Row> chunk = new ArrayList<>(chunkSize);
+		AccountImportParser.Row row;
+		while ((row = parser.next()) != null) {
+			report.addRow();
+			if (row.getError() != null) {
+				report.addError(row.getLine(), row.getError());
+				continue;
+			}
+			if (accept(row, emails, nicknames, report)) {
+				chunk.add(row);
+			}
+			if (chunk.size() == chunkSize) {
+				importChunk(chunk, report, sendConfirmEmail);
+				chunk.clear();
+			}
+		}
+		if (!chunk.isEmpty()) {
+			importChunk(chunk, report, sendConfirmEmail);
+		}
+
+		report.finish(System.currentTimeMillis() - start);
+		log.info("imported {}/{} accounts in {}ms ({} accounts/s)", report.getImported(), report.getTotal(),
+			report.getElapsedMillis(), String.format("%.1f", report.getAccountsPerSecond()));
+		return report;
+	}
+
+	private boolean accept(AccountImportParser.Row row, Set<String> emails, Set<String> nicknames,
+	                       AccountImportReport report) {
+		Set<ConstraintViolation<SignUpForm>> violations = validator.validate(row.getForm());
+		if (!violations.isEmpty()) {
+			report.addError(row.getLine(), violations.stream()
+				.map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+				.sorted()
+				.collect(Collectors.joining(", ")));
+			return false;
+		}
+		if (!emails.add(row.getForm().getEmail())) {
+			report.addError(row.getLine(), "파일 안에서 중복된 이메일입니다.");
+			return false;
+		}
+		if (!nicknames.add(row.getForm().getNickname())) {
+			report.addError(row.getLine(), "파일 안에서 중복된 닉네임입니다.");
+			return false;
+		}
+		return true;
+	}
+
+	private void importChunk(List<AccountImportParser.Row> chunk, AccountImportReport report,
+	                         boolean sendConfirmEmail) {
+		Set<String> existingEmails = accountRepository.findEmailsIn(chunk.stream()
+			.map(row -> row.getForm().getEmail()).collect(Collectors.toSet()));
+		Set<String> existingNicknames = accountRepository.findNicknamesIn(chunk.stream()
+			.map(row -> row.getForm().getNickname()).collect(Collectors.toSet()));
+
+		List<AccountImportParser.Row> rows = new ArrayList<>(chunk.size());
+		for (AccountImportParser.Row row : chunk) {
+			if (existingEmails.contains(row.getForm().getEmail())) {
+				report.addError(row.getLine(), "이미 사용중인 이메일입니다.");
+			} else if (existingNicknames.contains(row.getForm().getNickname())) {
+				report.addError(row.getLine(), "이미 사용중인 닉네임입니다.");
+			} else {
+				rows.add(row);
+			}
+		}
+		if (rows.isEmpty()) {
+			return;
+		}
+
+		List<Account> accounts = rows.parallelStream()
+			.map(row -> newAccount(row.getForm()))
+			.collect(Collectors.toList());
+		List<Account> saved;
+		try {
+			saved = new TransactionTemplate(transactionManager).execute(status -> {
+				List<Account> result = accountRepository.saveAll(accounts);
+				accountRepository.flush();
+				return result;
+			});
+		} catch (DataIntegrityViolationException e) {
+			saved = saveOneByOne(rows, accounts, report);
+		}
+		report.addImported(saved.size());
+		saved.forEach(account -> eventPublisher.publishEvent(new AccountCreated(account, sendConfirmEmail)));
+	}
+
+	private List<Account> saveOneByOne(List<AccountImportParser.Row> rows, List<Account> accounts,
+	                                   AccountImportReport report) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		List<Account> saved = new ArrayList<>(accounts.size());
+		for (int i = 0; i < accounts.size(); i++) {
+			Account account = accounts.get(i);
+			account.setId(null);
+			account.setVersion(null);
+			try {
+				saved.add(transactionTemplate.execute(status -> accountRepository.saveAndFlush(account)));
+			} catch (DataIntegrityViolationException e) {
+				report.addError(rows.get(i).getLine(), "이미 사용중인 이메일 또는 닉네임입니다.");
+			}
+		}
+		return saved;
+	}
+
+	private Account newAccount(SignUpForm signUpForm) {
+		Account account = Account.builder()
+			.email(signUpForm.getEmail())
+			.nickname(signUpForm.getNickname())
+			.password(passwordEncoder.encode(signUpForm.getPassword()))
+			.studyCreatedByWeb(true)
+			.studyEnrollmentResultByWeb(true)
+			.studyUpdatedByWeb(true)
+			.build();
+		account.generateEmailCheckToken();
+		return account;
+	}
+}
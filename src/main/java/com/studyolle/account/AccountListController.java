@@ -0,0 +1,55 @@
+package com.studyolle.account;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * id 를 커서로 쓰는 keyset 페이지 조회. offset 을 쓰지 않으므로 몇 번째 페이지든 인덱스로 바로 찾아간다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class AccountListController {
+	static final int MAX_PAGE_SIZE = 100;
+
+	private final AccountRepository accountRepository;
+	private final AccountExportStreamer accountExportStreamer;
+	private final ObjectMapper objectMapper;
+
+	@GetMapping("/accounts")
+	public AccountSummaryPage accounts(@RequestParam(defaultValue = "0") Long after,
+	                                   @RequestParam(defaultValue = "20") int size) {
+		int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		return new AccountSummaryPage(findAfter(after, pageSize), pageSize);
+	}
+
+	@GetMapping("/accounts/export")
+	public ResponseEntity<StreamingResponseBody> export() {
+		StreamingResponseBody body = outputStream -> {
+			try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+				generator.writeStartArray();
+				accountExportStreamer.stream(accountRepository::findByIdGreaterThanOrderByIdAsc, AccountSummary::getId,
+					chunk -> {
+						for (AccountSummary summary : chunk) {
+							generator.writeObject(summary);
+						}
+						generator.flush();
+					});
+				generator.writeEndArray();
+			}
+		};
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+	}
+
+	private List<AccountSummary> findAfter(Long after, int size) {
+		return accountRepository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, size));
+	}
+}
@@ -0,0 +1,69 @@
+package com.studyolle.account;
+
+import com.studyolle.domain.Account;
+import com.studyolle.mail.MailScheduler;
+import com.studyolle.mail.MailTemplateRenderer;
+import com.studyolle.mail.RenderedMail;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+@Component
+public class AccountMailer {
+	private static final String TEMPLATE = "account-link";
+
+	private final MailScheduler mailScheduler;
+	private final MailTemplateRenderer mailTemplateRenderer;
+	private final String host;
+	private final String from;
+
+	public AccountMailer(MailScheduler mailScheduler, MailTemplateRenderer mailTemplateRenderer,
+	                     @Value("${app.host:http://localhost:8080}") String host,
+	                     @Value("${app.mail.from:no-reply@studyolle.com}") String from) {
+		this.mailScheduler = mailScheduler;
+		this.mailTemplateRenderer = mailTemplateRenderer;
+		this.host = host;
+		this.from = from;
+	}
+
+	public void sendSignUpConfirmEmail(Account account) {
+		send(account, "스터디올래, 회원가입 인증!", "/check-email-token",
+			"스터디올래 서비스를 사용하려면 아래 링크를 클릭해 이메일을 인증하세요.", "이메일 인증하기");
+	}
+
+	public void sendLoginLink(Account account) {
+		send(account, "스터디올래, 이메일 로그인", "/login-by-email",
+			"스터디올래에 로그인하려면 아래 링크를 클릭하세요.", "스터디올래 로그인하기");
+	}
+
+	MimeMessagePreparator prepare(Account account, String subject, String path, String message, String linkName) {
+		String link = UriComponentsBuilder.fromHttpUrl(host)
+			.path(path)
+			.queryParam("token", "{token}")
+			.queryParam("email", "{email}")
+			.encode()
+			.buildAndExpand(account.getEmailCheckToken(), account.getEmail())
+			.toUriString();
+		RenderedMail mail = mailTemplateRenderer.render(TEMPLATE, subject, Map.of(
+			"nickname", account.getNickname(),
+			"message", message,
+			"link", link,
+			"linkName", linkName));
+
+		return mimeMessage -> {
+			MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, StandardCharsets.UTF_8.name());
+			helper.setFrom(from);
+			helper.setTo(account.getEmail());
+			helper.setSubject(mail.getSubject());
+			helper.setText(mail.getText(), mail.getHtml());
+		};
+	}
+
+	private void send(Account account, String subject, String path, String message, String linkName) {
+		mailScheduler.submit(account.getEmail(), prepare(account, subject, path, message, linkName));
+	}
+}
@@ -1,6 +1,14 @@
 package com.studyolle.account;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.studyolle.domain.Account;
@@ -11,7 +19,56 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
 	boolean existsByNickname(String nickname);
 
+	long countByEmailVerified(boolean emailVerified);
+
 	Account findByEmail(String email);
 
 	Account findByNickname(String nickname);
+
+	AccountVersion findVersionByNickname(String nickname);
+
+	List<AccountSummary> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+	List<AccountExportRow> findExportRowsByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+	List<NotificationRecipient> findNotificationRecipientsByIdIn(Collection<Long> ids);
+
+	@Query("select a.email from Account a where a.email in :emails")
+	Set<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+	@Query("select a.nickname from Account a where a.nickname in :nicknames")
+	Set<String> findNicknamesIn(@Param("nicknames") Collection<String> nicknames);
+
+	@Query("select a.id as accountId, t.title as title from Account a join a.tags t")
+	List<AccountTagTitle> findAllTagTitles();
+
+	@Query("select t.title from Account a join a.tags t where a.id = :id order by t.title")
+	List<String> findTagTitlesById(@Param("id") Long id);
+
+	List<AccountSummary> findSummariesByIdIn(Collection<Long> ids);
+
+	@Query("select max(a.id) from Account a")
+	Long findMaxId();
+
+	@Query("select a.id as accountId, t.id as tagId from Account a join a.tags t where a.id > :after and a.id <= :until")
+	List<AccountTagId> findTagIdsByAccountIdBetween(@Param("after") Long after, @Param("until") Long until);
+
+	/**
+	 * 토큰이 일치하고 만료되지 않았을 때만 토큰을 비우면서 가입을 완료한다. 같은 링크를 동시에 눌러도 한 요청만 1을 받는다.
+	 * 호출한 쪽 영속성 컨텍스트의 엔티티를 떼어내지 않도록 clear 하지 않는다. 같은 트랜잭션에서 이미 읽은 계정은
+	 * 이 update 결과를 반영하지 않으므로 갱신된 값이 필요하면 새 트랜잭션에서 다시 읽어야 한다.
+	 */
+	@Transactional
+	@Modifying(flushAutomatically = true)
+	@Query("update Account a set a.emailCheckToken = null, a.emailVerified = true, a.joinedAt = :now"
+		+ " where a.email = :email and a.emailCheckToken = :token and a.emailCheckTokenCreatedAt > :issuedAfter")
+	int completeSignUp(@Param("email") String email, @Param("token") String token, @Param("now") LocalDateTime now,
+	                   @Param("issuedAfter") LocalDateTime issuedAfter);
+
+	@Transactional
+	@Modifying(flushAutomatically = true)
+	@Query("update Account a set a.emailCheckToken = null"
+		+ " where a.email = :email and a.emailCheckToken = :token and a.emailCheckTokenCreatedAt > :issuedAfter")
+	int consumeEmailCheckToken(@Param("email") String email, @Param("token") String token,
+	                           @Param("issuedAfter") LocalDateTime issuedAfter);
 }
@@ -1,116 +1,246 @@
 package com.studyolle.account;
 
+import com.studyolle.account.event.AccountCreated;
+import com.studyolle.account.event.EmailVerified;
+import com.studyolle.account.event.NicknameChanged;
+import com.studyolle.account.event.PasswordChanged;
+import com.studyolle.account.event.ProfileUpdated;
+import com.studyolle.account.event.TagsUpdated;
+import com.studyolle.config.ReadYourWritesGuard;
 import com.studyolle.domain.Account;
+import com.studyolle.domain.Tag;
+import com.studyolle.domain.TokenGenerator;
 import com.studyolle.settings.NicknameForm;
 import com.studyolle.settings.Notifications;
 import com.studyolle.settings.Profile;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.modelmapper.ModelMapper;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 쓰기는 각 저장 트랜잭션 안에서만 커넥션을 사용하고,
+ * 메일 발송과 SecurityContext 갱신은 트랜잭션 밖에서 처리한다.
+ * 계정 이벤트는 저장 트랜잭션이 커밋된 뒤에 발행되며, 메일 발송 같은 부수 효과는 비동기 리스너가 처리한다.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class AccountService implements UserDetailsService {
 	private final AccountRepository accountRepository;
-	private final JavaMailSender javaMailSender;
+	private final AccountMailer accountMailer;
 	private final PasswordEncoder passwordEncoder;
 	private final ModelMapper modelMapper;
+	private final ReadYourWritesGuard readYourWritesGuard;
+	private final ApplicationEventPublisher eventPublisher;
+	private final PlatformTransactionManager transactionManager;
+
+	@Value("${app.email-token.ttl-hours:24}")
+	private long emailTokenTtlHours;
+
+	@Transactional(readOnly = true)
+	@Override
+	public UserDetails loadUserByUsername(String emailOrNickname) throws UsernameNotFoundException {
+		Account account = accountRepository.findByEmail(emailOrNickname);
+
+		if (account == null) {
+			account = accountRepository.findByNickname(emailOrNickname);
+		}
+
+		if (account == null) {
+			throw new UsernameNotFoundException(emailOrNickname);
+		}
+
+		return new UserAccount(account);
+	}
 
 	public Account processNewAccount(SignUpForm signUpForm) {
 		Account newAccount = saveNewAccount(signUpForm);
-		newAccount.generateEmailCheckToken();
-		sendSignUpConfirmEmail(newAccount);
+		eventPublisher.publishEvent(new AccountCreated(newAccount, true));
 		return newAccount;
 	}
 
-	public void completeSignUp(Account account) {
-		account.completeSignUp();
+	/**
+	 * 토큰 확인과 소비를 조건부 update 한 번으로 처리한다. 토큰이 틀렸거나 만료됐거나 이미 사용됐으면 null.
+	 * 로그인에 쓸 계정은 update 뒤에 primary 에서 한 번 더 읽는다. update 는 바뀐 행을 돌려주지 않고,
+	 * 세션에는 비밀번호와 권한까지 담긴 계정 전체가 필요하므로 이 select 한 번은 감수한다.
+	 */
+	public Account completeSignUp(String email, String token) {
+		LocalDateTime now = LocalDateTime.now();
+		if (token == null || accountRepository.completeSignUp(email, token, now, tokenIssuedAfter(now)) == 0) {
+			return null;
+		}
+
+		Account account = findWrittenAccount(email);
+		eventPublisher.publishEvent(new EmailVerified(account));
 		login(account);
+		return account;
 	}
 
-	private Account saveNewAccount(SignUpForm signUpForm) {
-		Account account = Account.builder()
-			.email(signUpForm.getEmail())
-			.nickname(signUpForm.getNickname())
-			.password(passwordEncoder.encode(signUpForm.getPassword()))
-			.studyCreatedByWeb(true)
-			.studyEnrollmentResultByWeb(true)
-			.studyUpdatedByWeb(true)
-			.build();
-		return accountRepository.save(account);
+	public void updateProfile(Account account, Profile profile) {
+		update(account, current -> modelMapper.map(profile, current));
+		eventPublisher.publishEvent(new ProfileUpdated(account));
+	}
+
+	public void updateProfileImage(Account account, String profileImage) {
+		update(account, current -> current.setProfileImage(profileImage));
+		eventPublisher.publishEvent(new ProfileUpdated(account));
+	}
+
+	public void updatePassword(Account account, String newPassword) {
+		String encodedPassword = passwordEncoder.encode(newPassword);
+		update(account, current -> {
+			current.setPassword(encodedPassword);
+			current.setCredentialVersion(current.getCredentialVersion() + 1);
+		});
+		eventPublisher.publishEvent(new PasswordChanged(account));
+	}
+
+	public void updateNotifications(Account account, Notifications notifications) {
+		update(account, current -> modelMapper.map(notifications, current));
+	}
+
+	public List<String> getTagTitles(Account account) {
+		return accountRepository.findTagTitlesById(account.getId());
+	}
+
+	public void updateTags(Account account, Set<Tag> tags) {
+		update(account, current -> current.setTags(tags));
+		readYourWritesGuard.markWritten(account.getId());
+		eventPublisher.publishEvent(new TagsUpdated(account,
+			tags.stream().map(Tag::getId).collect(Collectors.toSet())));
+	}
+
+	public void updateNickname(Account account, NicknameForm nicknameForm) {
+		String previousNickname = account.getNickname();
+		update(account, current -> current.setNickname(nicknameForm.getNickname()));
+		readYourWritesGuard.markWritten(account.getId());
+		eventPublisher.publishEvent(new NicknameChanged(account, previousNickname));
+		login(account);
 	}
 
 	public void sendSignUpConfirmEmail(Account account) {
-		account.generateEmailCheckToken();
-		SimpleMailMessage mailMessage = new SimpleMailMessage();
-		mailMessage.setSubject("스터디올래, 회원가입 인증!");
-		mailMessage
-			.setText("/check-email-token?token=" + account.getEmailCheckToken() + "&email=" + account.getEmail());
-		javaMailSender.send(mailMessage);
+		accountMailer.sendSignUpConfirmEmail(issueEmailCheckToken(account));
 	}
 
 	public void sendLoginLink(Account account) {
-		account.generateEmailCheckToken();
-		SimpleMailMessage mailMessage = new SimpleMailMessage();
-		mailMessage.setSubject("스터디올래, 이메일 로그인");
-		mailMessage
-			.setText("/login-by-email?token=" + account.getEmailCheckToken() + "&email=" + account.getEmail());
-		javaMailSender.send(mailMessage);
+		accountMailer.sendLoginLink(issueEmailCheckToken(account));
 	}
 
 	public void login(Account account) {
+		authenticate(account);
+	}
+
+	public Account loginByEmail(String email, String token) {
+		LocalDateTime now = LocalDateTime.now();
+		if (token == null || accountRepository.consumeEmailCheckToken(email, token, tokenIssuedAfter(now)) == 0) {
+			return null;
+		}
+
+		Account account = findWrittenAccount(email);
+		eventPublisher.publishEvent(new AuthenticationSuccessEvent(authenticate(account)));
+		return account;
+	}
+
+	private UsernamePasswordAuthenticationToken authenticate(Account account) {
+		UserAccount userAccount = new UserAccount(account);
 		UsernamePasswordAuthenticationToken token = new UsernamePasswordAuthenticationToken(
-			new UserAccount(account), account.getPassword(), Set.of(new SimpleGrantedAuthority("ROLE_USER"))
+			userAccount, account.getPassword(), userAccount.getAuthorities()
 		);
 		SecurityContextHolder.getContext().setAuthentication(token);
+		return token;
 	}
 
-	@Transactional(readOnly = true)
-	@Override
-	public UserDetails loadUserByUsername(String emailOrNickname) throws UsernameNotFoundException {
-		Account account = accountRepository.findByEmail(emailOrNickname);
-
-		if (account == null) {
-			account = accountRepository.findByNickname(emailOrNickname);
-		}
-
-		if (account == null) {
-			throw new UsernameNotFoundException(emailOrNickname);
-		}
+	private LocalDateTime tokenIssuedAfter(LocalDateTime now) {
+		return now.minusHours(emailTokenTtlHours);
+	}
 
-		return new UserAccount(account);
+	private Account findWrittenAccount(String email) {
+		Account account = readYourWritesGuard.onPrimary(() -> accountRepository.findByEmail(email));
+		readYourWritesGuard.markWritten(account.getId());
+		return account;
 	}
 
-	public void updateProfile(Account account, Profile profile) {
-		modelMapper.map(profile, account);
-		accountRepository.save(account);
+	private Account saveNewAccount(SignUpForm signUpForm) {
+		Account account = Account.builder()
+			.email(signUpForm.getEmail())
+			.nickname(signUpForm.getNickname())
+			.password(passwordEncoder.encode(signUpForm.getPassword()))
+			.studyCreatedByWeb(true)
+			.studyEnrollmentResultByWeb(true)
+			.studyUpdatedByWeb(true)
+			.build();
+		account.generateEmailCheckToken();
+		return accountRepository.save(account);
 	}
 
-	public void updatePassword(Account account, String newPassword) {
-		account.setPassword(passwordEncoder.encode(newPassword));
-		accountRepository.save(account);
+	private Account issueEmailCheckToken(Account account) {
+		String token = TokenGenerator.generate();
+		LocalDateTime issuedAt = LocalDateTime.now();
+		return update(account, current -> {
+			current.setEmailCheckToken(token);
+			current.setEmailCheckTokenCreatedAt(issuedAt);
+		});
 	}
 
-	public void updateNotifications(Account account, Notifications notifications) {
-		modelMapper.map(notifications, account);
-		accountRepository.save(account);
+	/**
+	 * 세션에 든 Account 는 다른 세션이나 기기에서 수정한 뒤라면 version 이 낡았으므로 그대로 merge 하지 않는다.
+	 * id 로 다시 읽은 계정에 change 를 한 번만 적용해 한 트랜잭션으로 저장하고, 저장된 상태를 세션 사본에 복사한다.
+	 */
+	private Account update(Account account, Consumer<Account> change) {
+		Account updated = new TransactionTemplate(transactionManager).execute(status -> {
+			Account current = accountRepository.findById(account.getId())
+				.orElseThrow(() -> new IllegalArgumentException(account.getId() + "에 해당하는 사용자가 없습니다."));
+			change.accept(current);
+			accountRepository.flush();
+			return current;
+		});
+		if (updated != account) {
+			copyPersistedState(updated, account);
+		}
+		return updated;
 	}
 
-	public void updateNickname(Account account, NicknameForm nicknameForm) {
-		account.setNickname(nicknameForm.getNickname());
-		accountRepository.save(account);
-		login(account);
+	private static void copyPersistedState(Account from, Account to) {
+		to.setVersion(from.getVersion());
+		to.setCredentialVersion(from.getCredentialVersion());
+		to.setEmail(from.getEmail());
+		to.setNickname(from.getNickname());
+		to.setPassword(from.getPassword());
+		to.setEmailVerified(from.isEmailVerified());
+		to.setAdmin(from.isAdmin());
+		to.setEmailCheckToken(from.getEmailCheckToken());
+		to.setEmailCheckTokenCreatedAt(from.getEmailCheckTokenCreatedAt());
+		to.setJoinedAt(from.getJoinedAt());
+		to.setBio(from.getBio());
+		to.setUrl(from.getUrl());
+		to.setOccupation(from.getOccupation());
+		to.setLocation(from.getLocation());
+		to.setProfileImage(from.getProfileImage());
+		to.setStudyCreatedByEmail(from.isStudyCreatedByEmail());
+		to.setStudyCreatedByWeb(from.isStudyCreatedByWeb());
+		to.setStudyEnrollmentResultByEmail(from.isStudyEnrollmentResultByEmail());
+		to.setStudyEnrollmentResultByWeb(from.isStudyEnrollmentResultByWeb());
+		to.setStudyUpdatedByEmail(from.isStudyUpdatedByEmail());
+		to.setStudyUpdatedByWeb(from.isStudyUpdatedByWeb());
+		if (Hibernate.isInitialized(from.getTags())) {
+			to.setTags(from.getTags());
+		}
 	}
 }
@@ -0,0 +1,19 @@
+package com.studyolle.account;
+
+import java.time.LocalDateTime;
+
+public interface AccountSummary {
+	Long getId();
+
+	String getNickname();
+
+	String getBio();
+
+	String getOccupation();
+
+	String getLocation();
+
+	boolean isEmailVerified();
+
+	LocalDateTime getJoinedAt();
+}
@@ -0,0 +1,15 @@
+package com.studyolle.account;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class AccountSummaryPage {
+	private final List<AccountSummary> content;
+	private final Long next;
+
+	public AccountSummaryPage(List<AccountSummary> content, int size) {
+		this.content = content;
+		this.next = content.size() < size ? null : content.get(content.size() - 1).getId();
+	}
+}
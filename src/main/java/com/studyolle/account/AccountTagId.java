@@ -0,0 +1,7 @@
+package com.studyolle.account;
+
+public interface AccountTagId {
+	Long getAccountId();
+
+	Long getTagId();
+}
@@ -0,0 +1,7 @@
+package com.studyolle.account;
+
+public interface AccountTagTitle {
+	Long getAccountId();
+
+	String getTitle();
+}
@@ -0,0 +1,9 @@
+package com.studyolle.account;
+
+public interface AccountVersion {
+	Long getId();
+
+	Long getVersion();
+
+	boolean isEmailVerified();
+}
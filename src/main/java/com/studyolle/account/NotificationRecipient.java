@@ -0,0 +1,23 @@
+package com.studyolle.account;
+
+public interface NotificationRecipient {
+	Long getId();
+
+	String getEmail();
+
+	String getNickname();
+
+	boolean isEmailVerified();
+
+	boolean isStudyCreatedByEmail();
+
+	boolean isStudyEnrollmentResultByEmail();
+
+	boolean isStudyUpdatedByEmail();
+
+	boolean isStudyCreatedByWeb();
+
+	boolean isStudyEnrollmentResultByWeb();
+
+	boolean isStudyUpdatedByWeb();
+}
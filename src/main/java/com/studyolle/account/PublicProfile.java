@@ -0,0 +1,14 @@
+package com.studyolle.account;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class PublicProfile {
+	private final Long version;
+	private final boolean emailVerified;
+	private final String avatar;
+	private final String summary;
+	private final String details;
+}
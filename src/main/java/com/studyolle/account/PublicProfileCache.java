@@ -0,0 +1,55 @@
+package com.studyolle.account;
+
+import com.studyolle.cache.LruCache;
+import com.studyolle.domain.Account;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+/**
+ * 프로필 페이지 중 누구에게나 같은 부분을 (계정 id, version) 기준으로 렌더링해 보관한다.
+ * 계정이 수정되면 version 이 바뀌므로 별도의 무효화 없이 다음 조회 때 다시 렌더링된다.
+ * 이메일 인증은 version 을 올리지 않는 update 로 처리되므로 인증 여부도 함께 비교한다.
+ */
+@Component
+public class PublicProfileCache {
+	private static final String TEMPLATE = "account/public-profile";
+
+	private final ITemplateEngine templateEngine;
+	private final LruCache<Long, PublicProfile> profiles;
+
+	public PublicProfileCache(ITemplateEngine templateEngine,
+	                          @Value("${app.profile-cache.max-size:1000}") int maxSize) {
+		this.templateEngine = templateEngine;
+		this.profiles = new LruCache<>(maxSize);
+	}
+
+	public PublicProfile get(AccountVersion accountVersion) {
+		PublicProfile profile = profiles.get(accountVersion.getId());
+		if (profile == null || !Objects.equals(profile.getVersion(), accountVersion.getVersion())
+			|| profile.isEmailVerified() != accountVersion.isEmailVerified()) {
+			return null;
+		}
+		return profile;
+	}
+
+	public PublicProfile render(Account account) {
+		Context context = new Context(LocaleContextHolder.getLocale());
+		context.setVariable("account", account);
+
+		PublicProfile profile = new PublicProfile(account.getVersion(), account.isEmailVerified(),
+			templateEngine.process(TEMPLATE, Set.of("avatar"), context),
+			templateEngine.process(TEMPLATE, Set.of("summary"), context),
+			templateEngine.process(TEMPLATE, Set.of("details"), context));
+		profiles.put(account.getId(), profile);
+		return profile;
+	}
+
+	public void evict(Long accountId) {
+		profiles.remove(accountId);
+	}
+}
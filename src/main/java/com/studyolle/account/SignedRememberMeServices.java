@@ -0,0 +1,97 @@
+package com.studyolle.account;
+
+import com.studyolle.domain.Account;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.authentication.rememberme.AbstractRememberMeServices;
+import org.springframework.security.web.authentication.rememberme.InvalidCookieException;
+
+/**
+ * persistent_logins 테이블 없이 동작하는 remember-me. 쿠키에는 계정 id, 만료 시각, 자격 증명 버전과
+ * 이 셋에 대한 HMAC-SHA256 서명만 담는다. 서명과 만료는 메모리에서 확인하고,
+ * 비밀번호를 바꿔 {@link Account#getCredentialVersion()} 가 올라가면 이전에 발급한 쿠키는 모두 무효가 된다.
+ */
+public class SignedRememberMeServices extends AbstractRememberMeServices {
+	private static final String ALGORITHM = "HmacSHA256";
+
+	private final SecretKeySpec signingKey;
+	private final AccountRepository accountRepository;
+
+	public SignedRememberMeServices(String key, UserDetailsService userDetailsService,
+	                                AccountRepository accountRepository) {
+		super(key, userDetailsService);
+		this.signingKey = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+		this.accountRepository = accountRepository;
+	}
+
+	@Override
+	protected void onLoginSuccess(HttpServletRequest request, HttpServletResponse response,
+	                              Authentication successfulAuthentication) {
+		if (!(successfulAuthentication.getPrincipal() instanceof UserAccount)) {
+			return;
+		}
+
+		Account account = ((UserAccount) successfulAuthentication.getPrincipal()).getAccount();
+		long expiresAt = System.currentTimeMillis() + getTokenValiditySeconds() * 1000L;
+		String id = String.valueOf(account.getId());
+		String expiry = String.valueOf(expiresAt);
+		String credentialVersion = String.valueOf(account.getCredentialVersion());
+		setCookie(new String[] {id, expiry, credentialVersion, sign(id, expiry, credentialVersion)},
+			getTokenValiditySeconds(), request, response);
+	}
+
+	@Override
+	protected UserDetails processAutoLoginCookie(String[] cookieTokens, HttpServletRequest request,
+	                                             HttpServletResponse response) {
+		if (cookieTokens.length != 4) {
+			throw new InvalidCookieException("Cookie token did not contain 4 tokens");
+		}
+
+		byte[] expected = sign(cookieTokens[0], cookieTokens[1], cookieTokens[2]).getBytes(StandardCharsets.US_ASCII);
+		if (!MessageDigest.isEqual(expected, cookieTokens[3].getBytes(StandardCharsets.US_ASCII))) {
+			throw new InvalidCookieException("Cookie signature did not match");
+		}
+
+		long accountId;
+		long expiresAt;
+		long credentialVersion;
+		try {
+			accountId = Long.parseLong(cookieTokens[0]);
+			expiresAt = Long.parseLong(cookieTokens[1]);
+			credentialVersion = Long.parseLong(cookieTokens[2]);
+		} catch (NumberFormatException e) {
+			throw new InvalidCookieException("Cookie token was not a number");
+		}
+
+		if (expiresAt < System.currentTimeMillis()) {
+			throw new InvalidCookieException("Cookie token has expired");
+		}
+
+		Account account = accountRepository.findById(accountId)
+			.orElseThrow(() -> new InvalidCookieException("Account no longer exists"));
+		if (account.getCredentialVersion() != credentialVersion) {
+			throw new InvalidCookieException("Cookie was issued for previous credentials");
+		}
+		return new UserAccount(account);
+	}
+
+	private String sign(String id, String expiry, String credentialVersion) {
+		try {
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(signingKey);
+			byte[] signature = mac.doFinal((id + ":" + expiry + ":" + credentialVersion).getBytes(StandardCharsets.UTF_8));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("HMAC 서명을 만들 수 없습니다.", e);
+		}
+	}
+}
@@ -2,6 +2,7 @@ package com.studyolle.account;
 
 import java.util.Set;
 
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 
@@ -11,10 +12,17 @@ public class UserAccount extends User {
 	private final Account account;
 
 	public UserAccount(Account account) {
-		super(account.getNickname(), account.getPassword(), Set.of(new SimpleGrantedAuthority("ROLE_USER")));
+		super(account.getNickname(), account.getPassword(), authorities(account));
 		this.account = account;
 	}
 
+	private static Set<GrantedAuthority> authorities(Account account) {
+		if (account.isAdmin()) {
+			return Set.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+		}
+		return Set.of(new SimpleGrantedAuthority("ROLE_USER"));
+	}
+
 	public Account getAccount() {
 		return account;
 	}
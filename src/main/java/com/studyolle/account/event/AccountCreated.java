@@ -0,0 +1,12 @@
+package com.studyolle.account.event;
+
+import com.studyolle.domain.Account;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class AccountCreated {
+	private final Account account;
+	private final boolean sendConfirmEmail;
+}
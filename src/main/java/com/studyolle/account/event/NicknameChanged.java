@@ -0,0 +1,12 @@
+package com.studyolle.account.event;
+
+import com.studyolle.domain.Account;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class NicknameChanged {
+	private final Account account;
+	private final String previousNickname;
+}
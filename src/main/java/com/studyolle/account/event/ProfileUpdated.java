@@ -0,0 +1,11 @@
+package com.studyolle.account.event;
+
+import com.studyolle.domain.Account;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ProfileUpdated {
+	private final Account account;
+}
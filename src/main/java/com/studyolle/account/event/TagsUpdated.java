@@ -0,0 +1,13 @@
+package com.studyolle.account.event;
+
+import com.studyolle.domain.Account;
+import java.util.Set;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class TagsUpdated {
+	private final Account account;
+	private final Set<Long> tagIds;
+}
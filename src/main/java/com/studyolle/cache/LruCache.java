@@ -0,0 +1,37 @@
+package com.studyolle.cache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최대 maxSize 개까지 보관하고, 넘치면 가장 오래 쓰지 않은 항목부터 버리는 스레드 안전한 캐시.
+ */
+public class LruCache<K, V> {
+	private final Map<K, V> entries;
+
+	public LruCache(int maxSize) {
+		this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > maxSize;
+			}
+		});
+	}
+
+	public V get(K key) {
+		return entries.get(key);
+	}
+
+	public void put(K key, V value) {
+		entries.put(key, value);
+	}
+
+	public void remove(K key) {
+		entries.remove(key);
+	}
+
+	public int size() {
+		return entries.size();
+	}
+}
@@ -0,0 +1,57 @@
+package com.studyolle.config;
+
+import javax.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.authentication.rememberme.AbstractRememberMeServices;
+import org.springframework.security.web.csrf.CsrfTokenRepository;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * 세션 쿠키도 remember-me 쿠키도 없는 방문자의 공개 GET 요청만 처리하는 가벼운 필터 체인.
+ * 세션을 만들지 않고, request cache 와 remember-me 조회를 건너뛴다. 쿠키가 하나라도 있으면 {@link SecurityConfig} 가 처리한다.
+ */
+@Order(1)
+@Configuration
+@RequiredArgsConstructor
+public class AnonymousSecurityConfig extends WebSecurityConfigurerAdapter {
+	private static final String[] PUBLIC_PAGES = {"/", "/login", "/sign-up", "/email-login", "/profile/*"};
+
+	private final CsrfTokenRepository csrfTokenRepository;
+
+	@Override
+	protected void configure(HttpSecurity http) throws Exception {
+		http.requestMatcher(new AndRequestMatcher(publicPages(), AnonymousSecurityConfig::hasNoCredentialCookie))
+			.authorizeRequests()
+			.anyRequest().permitAll();
+
+		http.sessionManagement()
+			.sessionCreationPolicy(SessionCreationPolicy.STATELESS);
+		http.requestCache()
+			.disable();
+		http.csrf()
+			.csrfTokenRepository(csrfTokenRepository);
+	}
+
+	private static RequestMatcher publicPages() {
+		RequestMatcher[] matchers = new RequestMatcher[PUBLIC_PAGES.length];
+		for (int i = 0; i < PUBLIC_PAGES.length; i++) {
+			matchers[i] = new AntPathRequestMatcher(PUBLIC_PAGES[i], HttpMethod.GET.name());
+		}
+		return new OrRequestMatcher(matchers);
+	}
+
+	private static boolean hasNoCredentialCookie(HttpServletRequest request) {
+		return request.getRequestedSessionId() == null
+			&& WebUtils.getCookie(request, AbstractRememberMeServices.SPRING_SECURITY_REMEMBER_ME_COOKIE_KEY) == null;
+	}
+}
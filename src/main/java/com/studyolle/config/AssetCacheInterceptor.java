@@ -0,0 +1,43 @@
+package com.studyolle.config;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+/**
+ * 현재 파일 내용의 hash 가 붙은 경로만 1년 동안 immutable 로 캐시하게 한다.
+ * hash 없는 경로, 예전 배포의 hash, 없는 파일은 no-cache 로 응답해 배포 뒤에 이전 번들이 남지 않게 한다.
+ */
+public class AssetCacheInterceptor implements HandlerInterceptor {
+	private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+	private static final String NO_CACHE = "no-cache";
+
+	/**
+	 * VersionResourceResolver 의 content 전략이 확장자 앞에 붙이는 MD5 hash.
+	 */
+	private static final Pattern VERSIONED_PATH = Pattern.compile("(.*)-[0-9a-f]{32}(\\.[^./]+)$");
+
+	private final ObjectProvider<ResourceUrlProvider> resourceUrlProvider;
+
+	public AssetCacheInterceptor(ObjectProvider<ResourceUrlProvider> resourceUrlProvider) {
+		this.resourceUrlProvider = resourceUrlProvider;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		response.setHeader(HttpHeaders.CACHE_CONTROL, isCurrentVersion(request) ? IMMUTABLE : NO_CACHE);
+		return true;
+	}
+
+	private boolean isCurrentVersion(HttpServletRequest request) {
+		ResourceUrlProvider urlProvider = resourceUrlProvider.getObject();
+		String path = urlProvider.getUrlPathHelper().getLookupPathForRequest(request);
+		Matcher matcher = VERSIONED_PATH.matcher(path);
+		return matcher.matches() && path.equals(urlProvider.getForLookupPath(matcher.group(1) + matcher.group(2)));
+	}
+}
@@ -0,0 +1,35 @@
+package com.studyolle.config;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+import org.springframework.web.servlet.resource.ResourceUrlProviderExposingInterceptor;
+
+public class AssetPreloadInterceptor implements HandlerInterceptor {
+	@Override
+	public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+	                       ModelAndView modelAndView) {
+		ResourceUrlProvider resourceUrlProvider = (ResourceUrlProvider) request.getAttribute(
+			ResourceUrlProviderExposingInterceptor.RESOURCE_URL_PROVIDER_ATTR);
+		if (resourceUrlProvider == null || !(handler instanceof HandlerMethod) || modelAndView == null
+			|| modelAndView.getViewName() == null || modelAndView.getViewName().startsWith("redirect:")) {
+			return;
+		}
+
+		addPreload(resourceUrlProvider, request, response, "/dist/vendor.css", "style");
+		addPreload(resourceUrlProvider, request, response, "/dist/vendor.js", "script");
+	}
+
+	private void addPreload(ResourceUrlProvider resourceUrlProvider, HttpServletRequest request,
+	                        HttpServletResponse response, String path, String type) {
+		String url = resourceUrlProvider.getForLookupPath(path);
+		if (url != null) {
+			response.addHeader(HttpHeaders.LINK,
+				"<" + request.getContextPath() + url + ">; rel=preload; as=" + type);
+		}
+	}
+}
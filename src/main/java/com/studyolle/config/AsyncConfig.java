@@ -0,0 +1,51 @@
+package com.studyolle.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 이벤트 리스너용 executor. 큐가 가득 차면 호출한 스레드가 직접 처리해 작업을 버리지 않고 속도를 늦춘다.
+ */
+@Slf4j
+@EnableAsync
+@Configuration
+public class AsyncConfig implements AsyncConfigurer {
+	@Value("${app.async.queue-capacity:500}")
+	private int queueCapacity;
+
+	/**
+	 * 빈으로 등록해야 종료 때 destroy() 가 호출되어 큐에 남은 작업(가입 확인 메일 등)을 마저 처리한다.
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor asyncEventExecutor() {
+		int processors = Runtime.getRuntime().availableProcessors();
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(processors);
+		executor.setMaxPoolSize(processors * 2);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setKeepAliveSeconds(60);
+		executor.setThreadNamePrefix("async-event-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+
+	@Override
+	public Executor getAsyncExecutor() {
+		return asyncEventExecutor();
+	}
+
+	@Override
+	public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+		return (ex, method, params) -> log.error("async listener {} failed", method.getName(), ex);
+	}
+}
@@ -0,0 +1,77 @@
+package com.studyolle.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+public class ConnectionPoolMonitor {
+	private final ObjectProvider<DataSource> dataSources;
+
+	@Scheduled(fixedDelayString = "${app.datasource.pool-monitor-interval-millis:60000}")
+	public void logUsage() {
+		for (PoolUsage usage : getPoolUsages()) {
+			log.info("connection pool [{}] active={}, idle={}, waiting={}, total={}, max={}, utilization={}%",
+				usage.getPoolName(), usage.getActive(), usage.getIdle(), usage.getWaiting(), usage.getTotal(),
+				usage.getMaximum(), usage.getUtilization());
+		}
+	}
+
+	public List<PoolUsage> getPoolUsages() {
+		List<PoolUsage> usages = new ArrayList<>();
+		for (HikariDataSource pool : hikariPools()) {
+			HikariPoolMXBean poolBean = pool.getHikariPoolMXBean();
+			if (poolBean != null) {
+				usages.add(new PoolUsage(pool.getPoolName(), poolBean.getActiveConnections(),
+					poolBean.getIdleConnections(), poolBean.getThreadsAwaitingConnection(),
+					poolBean.getTotalConnections(), pool.getMaximumPoolSize()));
+			}
+		}
+		return usages;
+	}
+
+	private Set<HikariDataSource> hikariPools() {
+		Set<HikariDataSource> pools = Collections.newSetFromMap(new IdentityHashMap<>());
+		dataSources.forEach(dataSource -> {
+			try {
+				if (dataSource.isWrapperFor(HikariDataSource.class)) {
+					pools.add(dataSource.unwrap(HikariDataSource.class));
+				}
+			} catch (SQLException e) {
+				log.debug("unable to unwrap data source", e);
+			}
+		});
+		return pools;
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	public static class PoolUsage {
+		private final String poolName;
+		private final int active;
+		private final int idle;
+		private final int waiting;
+		private final int total;
+		private final int maximum;
+
+		public int getUtilization() {
+			return maximum == 0 ? 0 : active * 100 / maximum;
+		}
+	}
+}
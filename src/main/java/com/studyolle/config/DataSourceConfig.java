@@ -0,0 +1,69 @@
+package com.studyolle.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * app.datasource.replica.url 이 설정된 경우에만 활성화되며, 읽기 전용 트랜잭션은 레플리카로, 나머지는 primary 로 보낸다.
+ * 트랜잭션의 readOnly 여부가 결정된 뒤에 커넥션을 얻도록 {@link LazyConnectionDataSourceProxy} 로 감싼다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+public class DataSourceConfig {
+	@Bean
+	@Primary
+	@ConfigurationProperties("app.datasource.primary")
+	public DataSourceProperties primaryDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties("app.datasource.primary.hikari")
+	public HikariDataSource primaryDataSource(
+		@Qualifier("primaryDataSourceProperties") DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("studyolle-primary");
+		return dataSource;
+	}
+
+	@Bean
+	@ConfigurationProperties("app.datasource.replica")
+	public DataSourceProperties replicaDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties("app.datasource.replica.hikari")
+	public HikariDataSource replicaDataSource(
+		@Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("studyolle-replica");
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+	                             @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+		Map<Object, Object> targetDataSources = new HashMap<>();
+		targetDataSources.put(ReplicationRoutingDataSource.PRIMARY, primaryDataSource);
+		targetDataSources.put(ReplicationRoutingDataSource.REPLICA, replicaDataSource);
+
+		ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource();
+		routingDataSource.setTargetDataSources(targetDataSources);
+		routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+		routingDataSource.afterPropertiesSet();
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+}
@@ -0,0 +1,38 @@
+package com.studyolle.config;
+
+import com.studyolle.mail.PooledSmtpMailSender;
+import java.util.Properties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * spring.mail.host 가 있으면 Spring Boot 기본 JavaMailSenderImpl 대신 연결을 재사용하는 발송기를 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.mail", name = "host")
+@EnableConfigurationProperties(MailProperties.class)
+public class MailConfig {
+	@Bean
+	public PooledSmtpMailSender mailSender(MailProperties mailProperties,
+	                                       @Value("${app.mail.pool-size:4}") int poolSize) {
+		PooledSmtpMailSender sender = new PooledSmtpMailSender(poolSize);
+		sender.setHost(mailProperties.getHost());
+		if (mailProperties.getPort() != null) {
+			sender.setPort(mailProperties.getPort());
+		}
+		sender.setUsername(mailProperties.getUsername());
+		sender.setPassword(mailProperties.getPassword());
+		sender.setProtocol(mailProperties.getProtocol());
+		if (mailProperties.getDefaultEncoding() != null) {
+			sender.setDefaultEncoding(mailProperties.getDefaultEncoding().name());
+		}
+		Properties properties = new Properties();
+		properties.putAll(mailProperties.getProperties());
+		sender.setJavaMailProperties(properties);
+		return sender;
+	}
+}
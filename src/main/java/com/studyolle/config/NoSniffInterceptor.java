@@ -0,0 +1,16 @@
+package com.studyolle.config;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 보안 필터를 거치지 않는 업로드 파일 경로에도 Content-Type 추측을 막는 헤더를 붙인다.
+ */
+public class NoSniffInterceptor implements HandlerInterceptor {
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		response.setHeader("X-Content-Type-Options", "nosniff");
+		return true;
+	}
+}
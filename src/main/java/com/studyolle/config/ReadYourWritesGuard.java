@@ -0,0 +1,75 @@
+package com.studyolle.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쓰기 직후 일정 시간 동안 해당 계정의 요청은 레플리카 지연과 무관하게 primary 에서 읽도록 한다.
+ */
+@Component
+@Lazy(false)
+public class ReadYourWritesGuard {
+	private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+	private final Map<Long, Long> lastWrites = new ConcurrentHashMap<>();
+	private final long windowMillis;
+
+	public ReadYourWritesGuard(@Value("${app.datasource.replica.read-your-writes-window-millis:5000}") long windowMillis) {
+		this.windowMillis = windowMillis;
+	}
+
+	public static boolean isPrimaryForced() {
+		return Boolean.TRUE.equals(PRIMARY_FORCED.get());
+	}
+
+	/**
+	 * 이후 요청부터 window 동안 primary 에서 읽도록 기록만 한다. 현재 스레드의 라우팅은 바꾸지 않는다.
+	 */
+	public void markWritten(Long accountId) {
+		lastWrites.put(accountId, System.currentTimeMillis());
+	}
+
+	/**
+	 * work 를 실행하는 동안만 primary 에서 읽는다. 비동기 리스너나 스케줄 작업처럼
+	 * 인터셉터가 정리해 주지 않는 스레드에서도 끝나면 이전 상태로 되돌린다.
+	 */
+	public <T> T onPrimary(Supplier<T> work) {
+		Boolean previous = PRIMARY_FORCED.get();
+		PRIMARY_FORCED.set(Boolean.TRUE);
+		try {
+			return work.get();
+		} finally {
+			if (previous == null) {
+				PRIMARY_FORCED.remove();
+			} else {
+				PRIMARY_FORCED.set(previous);
+			}
+		}
+	}
+
+	public void apply(Long accountId) {
+		Long writtenAt = lastWrites.get(accountId);
+		if (writtenAt != null && !isExpired(writtenAt, System.currentTimeMillis())) {
+			PRIMARY_FORCED.set(Boolean.TRUE);
+		}
+	}
+
+	public void clear() {
+		PRIMARY_FORCED.remove();
+	}
+
+	@Scheduled(fixedDelayString = "${app.datasource.replica.read-your-writes-window-millis:5000}")
+	public void evictExpired() {
+		long now = System.currentTimeMillis();
+		lastWrites.values().removeIf(writtenAt -> isExpired(writtenAt, now));
+	}
+
+	private boolean isExpired(long writtenAt, long now) {
+		return now - writtenAt > windowMillis;
+	}
+}
@@ -0,0 +1,17 @@
+package com.studyolle.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+	public static final String PRIMARY = "primary";
+	public static final String REPLICA = "replica";
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (ReadYourWritesGuard.isPrimaryForced()) {
+			return PRIMARY;
+		}
+		return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? REPLICA : PRIMARY;
+	}
+}
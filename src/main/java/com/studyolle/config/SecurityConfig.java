@@ -2,6 +2,7 @@ package com.studyolle.config;
 
 import javax.sql.DataSource;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -9,10 +10,14 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
+import org.springframework.security.config.annotation.web.configurers.RememberMeConfigurer;
 import org.springframework.security.web.authentication.rememberme.JdbcTokenRepositoryImpl;
 import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+import org.springframework.security.web.csrf.CsrfTokenRepository;
 
+import com.studyolle.account.AccountRepository;
 import com.studyolle.account.AccountService;
+import com.studyolle.account.SignedRememberMeServices;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,6 +27,14 @@ import lombok.RequiredArgsConstructor;
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
 	private final AccountService accountService;
 	private final DataSource dataSource;
+	private final CsrfTokenRepository csrfTokenRepository;
+	private final AccountRepository accountRepository;
+
+	@Value("${app.remember-me.mode:persistent}")
+	private String rememberMeMode;
+
+	@Value("${app.remember-me.key:}")
+	private String rememberMeKey;
 
 	@Override
 	protected void configure(HttpSecurity http) throws Exception {
@@ -29,22 +42,34 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 			.mvcMatchers("/", "/login", "/sign-up", "/check-email-token",
 				"/email-login", "/check-email-login", "/login-link", "/login-by-email").permitAll()
 			.mvcMatchers(HttpMethod.GET, "/profile/*").permitAll()
+			.mvcMatchers("/accounts", "/accounts/export", "/accounts/export.csv", "/accounts/import").hasRole("ADMIN")
 			.anyRequest().authenticated();
 
+		http.csrf()
+			.csrfTokenRepository(csrfTokenRepository);
+
 		http.formLogin()
 			.loginPage("/login").permitAll();
 		http.logout()
 			.logoutSuccessUrl("/");
 
-		http.rememberMe()
-			.userDetailsService(accountService)
-			.tokenRepository(tokenRepository());
+		RememberMeConfigurer<HttpSecurity> rememberMe = http.rememberMe()
+			.userDetailsService(accountService);
+		if ("signed".equals(rememberMeMode)) {
+			if (rememberMeKey.isBlank()) {
+				throw new IllegalStateException("app.remember-me.mode=signed 에는 app.remember-me.key 가 필요합니다.");
+			}
+			rememberMe.key(rememberMeKey)
+				.rememberMeServices(new SignedRememberMeServices(rememberMeKey, accountService, accountRepository));
+		} else {
+			rememberMe.tokenRepository(tokenRepository());
+		}
 	}
 
 	@Override
 	public void configure(WebSecurity web) throws Exception {
 		web.ignoring()
-			.mvcMatchers("/node_modules/**")
+			.mvcMatchers("/node_modules/**", "/dist/**", "/profile-images/**")
 			.requestMatchers(PathRequest.toStaticResources().atCommonLocations());
 	}
 
@@ -53,6 +78,4 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 		jdbcTokenRepository.setDataSource(dataSource);
 		return jdbcTokenRepository;
 	}
-
-
 }
@@ -0,0 +1,38 @@
+package com.studyolle.config;
+
+import lombok.Getter;
+
+/**
+ * 현재 요청 스레드에서 실행한 SQL 문 수와 시간. {@link SqlStatisticsFilter} 가 요청마다 시작하고 끝낸다.
+ */
+@Getter
+public class SqlStatistics {
+	public static final String REQUEST_ATTRIBUTE = SqlStatistics.class.getName();
+
+	private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+	private int statements;
+	private long nanos;
+
+	public static SqlStatistics start() {
+		SqlStatistics statistics = new SqlStatistics();
+		CURRENT.set(statistics);
+		return statistics;
+	}
+
+	public static void stop() {
+		CURRENT.remove();
+	}
+
+	static void record(long elapsedNanos) {
+		SqlStatistics statistics = CURRENT.get();
+		if (statistics != null) {
+			statistics.statements++;
+			statistics.nanos += elapsedNanos;
+		}
+	}
+
+	public long getMillis() {
+		return nanos / 1_000_000;
+	}
+}
@@ -0,0 +1,60 @@
+package com.studyolle.config;
+
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청마다 실행된 SQL 문 수와 시간을 X-SQL-Count, X-SQL-Time 헤더와 debug 로그로 남긴다.
+ * 헤더는 응답이 커밋되기 직전 값이라 그 뒤에 실행된 문장은 로그와 요청 속성({@link SqlStatistics#REQUEST_ATTRIBUTE})에만 반영된다.
+ */
+@Slf4j
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		SqlStatistics statistics = SqlStatistics.start();
+		request.setAttribute(SqlStatistics.REQUEST_ATTRIBUTE, statistics);
+		HeaderWritingResponse headerWritingResponse = new HeaderWritingResponse(response, statistics);
+		try {
+			filterChain.doFilter(request, headerWritingResponse);
+		} finally {
+			SqlStatistics.stop();
+			if (!response.isCommitted()) {
+				headerWritingResponse.writeHeaders();
+			}
+			log.debug("{} {} executed {} statements in {}ms", request.getMethod(), request.getRequestURI(),
+				statistics.getStatements(), statistics.getMillis());
+		}
+	}
+
+	private static class HeaderWritingResponse extends OnCommittedResponseWrapper {
+		private final SqlStatistics statistics;
+		private boolean written;
+
+		private HeaderWritingResponse(HttpServletResponse response, SqlStatistics statistics) {
+			super(response);
+			this.statistics = statistics;
+		}
+
+		@Override
+		protected void onResponseCommitted() {
+			writeHeaders();
+		}
+
+		private void writeHeaders() {
+			if (written) {
+				return;
+			}
+			written = true;
+			HttpServletResponse response = (HttpServletResponse) getResponse();
+			response.setHeader("X-SQL-Count", String.valueOf(statistics.getStatements()));
+			response.setHeader("X-SQL-Time", String.valueOf(statistics.getMillis()));
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.studyolle.config;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * JVM 시작부터 ApplicationReadyEvent, 첫 요청 응답까지 걸린 시간을 기록한다.
+ * fast-start 와 cds-training 프로파일이 함께 켜져 있을 때만 첫 요청을 처리한 뒤 종료한다.
+ * scripts/build-cds-archive.sh 가 {@code -XX:ArchiveClassesAtExit} 와 함께 AppCDS 아카이브를 만드는 학습 실행에 쓴다.
+ */
+@Slf4j
+@Lazy(false)
+@Component
+public class StartupTimer extends OncePerRequestFilter {
+	static final Profiles CDS_TRAINING = Profiles.of("fast-start & cds-training");
+
+	private final AtomicBoolean firstRequest = new AtomicBoolean(true);
+	private final ApplicationContext applicationContext;
+	private final boolean exitAfterFirstRequest;
+
+	public StartupTimer(ApplicationContext applicationContext) {
+		this.applicationContext = applicationContext;
+		this.exitAfterFirstRequest = applicationContext.getEnvironment().acceptsProfiles(CDS_TRAINING);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onReady() {
+		log.info("application ready {}ms after JVM start", uptime());
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		filterChain.doFilter(request, response);
+
+		if (firstRequest.compareAndSet(true, false)) {
+			response.flushBuffer();
+			log.info("first request {} served {}ms after JVM start", request.getRequestURI(), uptime());
+			if (exitAfterFirstRequest) {
+				log.warn("cds-training profile is active, shutting down after the first request");
+				new Thread(() -> System.exit(SpringApplication.exit(applicationContext)), "startup-exit").start();
+			}
+		}
+	}
+
+	private long uptime() {
+		return ManagementFactory.getRuntimeMXBean().getUptime();
+	}
+}
@@ -0,0 +1,86 @@
+package com.studyolle.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import javax.sql.DataSource;
+
+/**
+ * DataSource 를 감싸 Statement 의 execute 계열 호출마다 {@link SqlStatistics} 에 횟수와 시간을 더한다.
+ * executeBatch 는 한 번의 왕복이므로 한 문장으로 센다.
+ */
+public final class StatementCountingDataSource {
+	private StatementCountingDataSource() {
+	}
+
+	public static DataSource wrap(DataSource dataSource) {
+		return proxy(DataSource.class, dataSource);
+	}
+
+	private static <T> T proxy(Class<T> type, Object target) {
+		return type.cast(Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+			new Class<?>[] {type}, new Handler(target)));
+	}
+
+	private static class Handler implements InvocationHandler {
+		private final Object target;
+
+		private Handler(Object target) {
+			this.target = target;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if (name.equals("equals")) {
+				return proxy == args[0];
+			}
+			if (name.equals("hashCode")) {
+				return System.identityHashCode(proxy);
+			}
+			if (name.equals("unwrap") && ((Class<?>) args[0]).isInstance(target)) {
+				return target;
+			}
+			if (name.equals("isWrapperFor") && ((Class<?>) args[0]).isInstance(target)) {
+				return true;
+			}
+
+			if (name.startsWith("execute")) {
+				long startedAt = System.nanoTime();
+				try {
+					return invokeTarget(method, args);
+				} finally {
+					SqlStatistics.record(System.nanoTime() - startedAt);
+				}
+			}
+
+			Object result = invokeTarget(method, args);
+			if (result instanceof Connection) {
+				return proxy(Connection.class, result);
+			}
+			if (result instanceof CallableStatement) {
+				return proxy(CallableStatement.class, result);
+			}
+			if (result instanceof PreparedStatement) {
+				return proxy(PreparedStatement.class, result);
+			}
+			if (result instanceof Statement) {
+				return proxy(Statement.class, result);
+			}
+			return result;
+		}
+
+		private Object invokeTarget(Method method, Object[] args) throws Throwable {
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+	}
+}
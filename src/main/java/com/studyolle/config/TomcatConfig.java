@@ -0,0 +1,28 @@
+package com.studyolle.config;
+
+import java.util.Arrays;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * TLS 를 앞단 프록시에서 끝내므로 Tomcat 에는 평문 HTTP/2(h2c) 업그레이드를 직접 등록한다.
+ * Spring Boot 가 이미 등록했다면 다시 추가하지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "server.http2.enabled", havingValue = "true")
+public class TomcatConfig {
+	@Bean
+	public WebServerFactoryCustomizer<TomcatServletWebServerFactory> h2cCustomizer() {
+		return factory -> factory.addConnectorCustomizers(connector -> {
+			boolean registered = Arrays.stream(connector.findUpgradeProtocols())
+				.anyMatch(protocol -> protocol instanceof Http2Protocol);
+			if (!registered) {
+				connector.addUpgradeProtocol(new Http2Protocol());
+			}
+		});
+	}
+}
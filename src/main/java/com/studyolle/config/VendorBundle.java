@@ -0,0 +1,18 @@
+package com.studyolle.config;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+/**
+ * frontend 의 npm 빌드로 만든 /dist 번들이 클래스패스에 있는지 알려준다.
+ * 번들 없이 실행하면 템플릿은 CDN 의 파일을 불러온다.
+ */
+@Component
+public class VendorBundle {
+	private final boolean available = new ClassPathResource("static/dist/vendor.css").exists()
+		&& new ClassPathResource("static/dist/vendor.js").exists();
+
+	public boolean isAvailable() {
+		return available;
+	}
+}
@@ -0,0 +1,54 @@
+package com.studyolle.config;
+
+import com.studyolle.settings.ProfileImageStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.CssLinkResourceTransformer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+	private static final String ASSET_PATTERN = "/dist/**";
+
+	private final ReadYourWritesInterceptor readYourWritesInterceptor;
+	private final ProfileImageStore profileImageStore;
+	private final ObjectProvider<ResourceUrlProvider> resourceUrlProvider;
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(readYourWritesInterceptor)
+			.excludePathPatterns(ASSET_PATTERN);
+		registry.addInterceptor(new AssetCacheInterceptor(resourceUrlProvider))
+			.addPathPatterns(ASSET_PATTERN);
+		registry.addInterceptor(new AssetPreloadInterceptor())
+			.excludePathPatterns(ASSET_PATTERN);
+		registry.addInterceptor(new NoSniffInterceptor())
+			.addPathPatterns(ProfileImageStore.URL_PREFIX + "**");
+	}
+
+	@Override
+	public void addResourceHandlers(ResourceHandlerRegistry registry) {
+		registry.addResourceHandler(ASSET_PATTERN)
+			.addResourceLocations("classpath:/static/dist/")
+			.resourceChain(true)
+			.addResolver(new EncodedResourceResolver())
+			.addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"))
+			.addTransformer(new CssLinkResourceTransformer());
+		registry.addResourceHandler(ProfileImageStore.URL_PREFIX + "**")
+			.addResourceLocations(profileImageStore.getResourceLocation());
+	}
+
+	@Bean
+	public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+		return new ResourceUrlEncodingFilter();
+	}
+}
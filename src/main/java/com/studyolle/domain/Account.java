@@ -2,7 +2,6 @@ package com.studyolle.domain;
 
 import java.time.LocalDateTime;
 import java.util.Set;
-import java.util.UUID;
 
 import javax.persistence.Basic;
 import javax.persistence.Column;
@@ -11,8 +10,8 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.Lob;
-
 import javax.persistence.ManyToMany;
+import javax.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,6 +19,9 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 
 @Entity
@@ -31,9 +33,16 @@ import lombok.Setter;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Account {
 	@Id
-	@GeneratedValue
+	@GeneratedValue(generator = "account_seq")
+	@GenericGenerator(name = "account_seq", strategy = "com.studyolle.domain.PooledSequenceGenerator",
+		parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "account_seq"))
 	private Long id;
 
+	@Version
+	private Long version;
+
+	private long credentialVersion;
+
 	@Column(unique = true)
 	private String email;
 
@@ -44,6 +53,8 @@ public class Account {
 
 	private boolean emailVerified;
 
+	private boolean admin;
+
 	private String emailCheckToken;
 
 	private LocalDateTime emailCheckTokenCreatedAt;
@@ -78,19 +89,10 @@ public class Account {
 	private Set<Tag> tags;
 
 	public void generateEmailCheckToken() {
-		this.emailCheckToken = UUID.randomUUID().toString();
+		this.emailCheckToken = TokenGenerator.generate();
 		this.emailCheckTokenCreatedAt = LocalDateTime.now();
 	}
 
-	public void completeSignUp() {
-		emailVerified = true;
-		joinedAt = LocalDateTime.now();
-	}
-
-	public boolean isValidToken(String token) {
-		return emailCheckToken.equals(token);
-	}
-
 	public boolean canResendEmail() {
 		return emailCheckTokenCreatedAt.isBefore(LocalDateTime.now().minusHours(1L));
 	}
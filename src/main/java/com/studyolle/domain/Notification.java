@@ -0,0 +1,53 @@
+package com.studyolle.domain;
+
+import com.studyolle.notification.NotificationType;
+import java.time.LocalDateTime;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+@Entity
+@Table(indexes = @Index(name = "idx_notification_account_checked_created", columnList = "account_id, checked, created_at"))
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Notification {
+	@Id
+	@GeneratedValue(generator = "notification_seq")
+	@GenericGenerator(name = "notification_seq", strategy = "com.studyolle.domain.PooledSequenceGenerator",
+		parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "notification_seq"))
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Account account;
+
+	@Enumerated(EnumType.STRING)
+	private NotificationType type;
+
+	private String title;
+
+	private String link;
+
+	private boolean checked;
+
+	private LocalDateTime createdAt;
+}
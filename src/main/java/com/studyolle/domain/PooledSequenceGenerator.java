@@ -0,0 +1,32 @@
+package com.studyolle.domain;
+
+import java.util.Properties;
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * pooled optimizer 를 쓰는 시퀀스 생성기. allocation size 는 엔티티마다 적지 않고
+ * {@code spring.jpa.properties.studyolle.id.allocation_size} 로 한 곳에서 정한다.
+ * 시퀀스는 allocation size 만큼 증가하고, 그 사이의 id 는 메모리에서 나눠준다.
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+	public static final String ALLOCATION_SIZE_SETTING = "studyolle.id.allocation_size";
+	public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+	@Override
+	public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+		if (!params.containsKey(INCREMENT_PARAM)) {
+			Object allocationSize = serviceRegistry.getService(ConfigurationService.class)
+				.getSettings()
+				.get(ALLOCATION_SIZE_SETTING);
+			params.setProperty(INCREMENT_PARAM,
+				allocationSize == null ? String.valueOf(DEFAULT_ALLOCATION_SIZE) : allocationSize.toString());
+		}
+		params.putIfAbsent(OPT_PARAM, StandardOptimizerDescriptor.POOLED.getExternalName());
+		super.configure(type, params, serviceRegistry);
+	}
+}
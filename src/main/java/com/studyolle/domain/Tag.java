@@ -1,5 +1,6 @@
 package com.studyolle.domain;
 
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
@@ -9,13 +10,19 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 @Entity
 @Getter @Setter @EqualsAndHashCode(of = "id")
 @Builder @AllArgsConstructor @NoArgsConstructor
 public class Tag {
-	@Id @GeneratedValue
+	@Id @GeneratedValue(generator = "tag_seq")
+	@GenericGenerator(name = "tag_seq", strategy = "com.studyolle.domain.PooledSequenceGenerator",
+		parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "tag_seq"))
 	private Long id;
 
+	@Column(unique = true, nullable = false)
 	private String title;
 }
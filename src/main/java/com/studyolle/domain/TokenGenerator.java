@@ -0,0 +1,32 @@
+package com.studyolle.domain;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 이메일 링크용 토큰. 스레드마다 DRBG 인스턴스를 두어 {@code UUID.randomUUID()} 처럼
+ * 하나의 SecureRandom 을 두고 경쟁하지 않고, 128 비트를 패딩 없는 URL-safe Base64(22자)로 인코딩한다.
+ */
+public final class TokenGenerator {
+	private static final int TOKEN_BYTES = 16;
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(TokenGenerator::newRandom);
+
+	private TokenGenerator() {
+	}
+
+	public static String generate() {
+		byte[] bytes = new byte[TOKEN_BYTES];
+		RANDOM.get().nextBytes(bytes);
+		return ENCODER.encodeToString(bytes);
+	}
+
+	private static SecureRandom newRandom() {
+		try {
+			return SecureRandom.getInstance("DRBG");
+		} catch (NoSuchAlgorithmException e) {
+			return new SecureRandom();
+		}
+	}
+}
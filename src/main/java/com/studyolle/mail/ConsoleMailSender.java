@@ -1,54 +1,120 @@
 package com.studyolle.mail;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Properties;
 
+import javax.mail.MessagingException;
+import javax.mail.Session;
 import javax.mail.internet.MimeMessage;
 
 import org.springframework.context.annotation.Profile;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMailMessage;
 import org.springframework.mail.javamail.MimeMessagePreparator;
 import org.springframework.stereotype.Component;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 로컬 개발용 메일 발송기. 실제로 보내지 않고 완성된 MIME 메시지를 로그로 남기고 최근 메시지를 보관한다.
+ * 모든 메시지는 하나의 {@link Session} 을 공유한다.
+ */
 @Profile("local")
 @Component
 @Slf4j
 public class ConsoleMailSender implements JavaMailSender {
+	private static final int MAX_CAPTURED_MESSAGES = 100;
+
+	private final Session session = Session.getInstance(new Properties());
+	private final Deque<MimeMessage> sentMessages = new ArrayDeque<>();
+
 	@Override
 	public MimeMessage createMimeMessage() {
-		return null;
+		return new MimeMessage(session);
 	}
 
 	@Override
 	public MimeMessage createMimeMessage(InputStream contentStream) throws MailException {
-		return null;
+		try {
+			return new MimeMessage(session, contentStream);
+		} catch (MessagingException e) {
+			throw new MailParseException("MIME 메시지를 읽을 수 없습니다.", e);
+		}
 	}
 
 	@Override
 	public void send(MimeMessage mimeMessage) throws MailException {
+		try {
+			mimeMessage.saveChanges();
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			mimeMessage.writeTo(outputStream);
+			log.info("\n{}", outputStream.toString(StandardCharsets.UTF_8));
+		} catch (MessagingException | IOException e) {
+			throw new MailSendException("MIME 메시지를 만들 수 없습니다.", e);
+		}
+
+		synchronized (sentMessages) {
+			sentMessages.addLast(mimeMessage);
+			if (sentMessages.size() > MAX_CAPTURED_MESSAGES) {
+				sentMessages.removeFirst();
+			}
+		}
 	}
 
 	@Override
 	public void send(MimeMessage... mimeMessages) throws MailException {
+		for (MimeMessage mimeMessage : mimeMessages) {
+			send(mimeMessage);
+		}
 	}
 
 	@Override
 	public void send(MimeMessagePreparator mimeMessagePreparator) throws MailException {
+		MimeMessage mimeMessage = createMimeMessage();
+		try {
+			mimeMessagePreparator.prepare(mimeMessage);
+		} catch (Exception e) {
+			throw new MailPreparationException(e);
+		}
+		send(mimeMessage);
 	}
 
 	@Override
 	public void send(MimeMessagePreparator... mimeMessagePreparators) throws MailException {
+		for (MimeMessagePreparator mimeMessagePreparator : mimeMessagePreparators) {
+			send(mimeMessagePreparator);
+		}
 	}
 
 	@Override
 	public void send(SimpleMailMessage simpleMessage) throws MailException {
-		log.info(simpleMessage.getText());
+		MimeMessage mimeMessage = createMimeMessage();
+		simpleMessage.copyTo(new MimeMailMessage(mimeMessage));
+		send(mimeMessage);
 	}
 
 	@Override
 	public void send(SimpleMailMessage... simpleMessages) throws MailException {
+		for (SimpleMailMessage simpleMessage : simpleMessages) {
+			send(simpleMessage);
+		}
+	}
+
+	public List<MimeMessage> getSentMessages() {
+		synchronized (sentMessages) {
+			return new ArrayList<>(sentMessages);
+		}
 	}
 }
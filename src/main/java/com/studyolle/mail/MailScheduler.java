@@ -0,0 +1,341 @@
+package com.studyolle.mail;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수신 도메인별 큐에 메일을 나눠 담고, 도메인마다 초당 발송량을 제한하면서 도메인들을 번갈아 발송한다.
+ * 한 메일 서비스가 발송을 늦추더라도 다른 도메인으로 가는 메일은 기다리지 않는다.
+ * 발송 자체는 workers 개의 스레드가 하고, 빈 worker 가 없으면 메일은 worker 큐가 아닌 도메인 큐에서 기다린다.
+ * worker 는 한 도메인에서 발송 한도가 허락하는 만큼 최대 batchSize 통을 꺼내 한 번의 send 로 보내므로
+ * {@link PooledSmtpMailSender} 가 같은 SMTP 연결로 이어서 보낸다.
+ * 종료할 때는 도메인 큐에 남은 메일을 발송 제한 없이 보내고, 제한 시간 안에 보내지 못한 메일은 도메인별로 로그에 남긴다.
+ * 종료를 시작한 뒤 들어온 메일은 큐에 넣지 않고 호출한 스레드에서 바로 보낸다.
+ */
+@Slf4j
+@Lazy(false)
+@Component
+public class MailScheduler {
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+	private final JavaMailSender javaMailSender;
+	private final double defaultRatePerSecond;
+	private final Map<String, Double> domainRates;
+	private final int workers;
+	private final int batchSize;
+	private final LongSupplier nanoTime;
+
+	private final Map<String, DomainQueue> queues = new LinkedHashMap<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition submitted = lock.newCondition();
+	private ExecutorService executor;
+	private Semaphore idleWorkers;
+	private Thread dispatcher;
+	private int nextDomain;
+	private boolean stopping;
+
+	@Autowired
+	public MailScheduler(JavaMailSender javaMailSender,
+	                     @Value("${app.mail.default-rate-per-second:10}") double defaultRatePerSecond,
+	                     @Value("${app.mail.domain-rates:}") String domainRates,
+	                     @Value("${app.mail.workers:4}") int workers,
+	                     @Value("${app.mail.batch-size:20}") int batchSize) {
+		this(javaMailSender, defaultRatePerSecond, domainRates, workers, batchSize, System::nanoTime);
+	}
+
+	/**
+	 * 발송 한도 계산에 쓸 시계를 바꿀 수 있는 생성자. 테스트에서 시간을 직접 움직일 때 쓴다.
+	 */
+	MailScheduler(JavaMailSender javaMailSender, double defaultRatePerSecond, String domainRates, int workers,
+	              int batchSize, LongSupplier nanoTime) {
+		this.javaMailSender = javaMailSender;
+		this.defaultRatePerSecond = defaultRatePerSecond;
+		this.domainRates = parseRates(domainRates);
+		this.workers = workers;
+		this.batchSize = batchSize;
+		this.nanoTime = nanoTime;
+	}
+
+	@PostConstruct
+	public void start() {
+		AtomicInteger threadNumber = new AtomicInteger();
+		executor = Executors.newFixedThreadPool(workers,
+			runnable -> new Thread(runnable, "mail-sender-" + threadNumber.incrementAndGet()));
+		idleWorkers = new Semaphore(workers);
+		dispatcher = new Thread(this::dispatch, "mail-dispatcher");
+		dispatcher.setDaemon(true);
+		dispatcher.start();
+	}
+
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		lock.lock();
+		try {
+			stopping = true;
+		} finally {
+			lock.unlock();
+		}
+		dispatcher.interrupt();
+		dispatcher.join(TimeUnit.SECONDS.toMillis(1));
+
+		Map<String, List<MimeMessagePreparator>> remaining = drainQueues();
+		remaining.forEach((domain, messages) -> {
+			log.info("sending {} queued mails to [{}] before shutdown", messages.size(), domain);
+			for (int from = 0; from < messages.size(); from += batchSize) {
+				executor.execute(new SendTask(domain, messages.subList(from, Math.min(from + batchSize, messages.size()))));
+			}
+		});
+
+		executor.shutdown();
+		if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+			Map<String, Long> dropped = executor.shutdownNow().stream()
+				.filter(SendTask.class::isInstance)
+				.map(SendTask.class::cast)
+				.collect(Collectors.groupingBy(task -> task.domain, Collectors.summingLong(task -> task.preparators.size())));
+			dropped.forEach((domain, count) -> log.warn("dropped {} queued mails to [{}] on shutdown", count, domain));
+		}
+	}
+
+	public void submit(String recipient, MimeMessagePreparator preparator) {
+		String domain = domainOf(recipient);
+		lock.lock();
+		try {
+			if (!stopping) {
+				queues.computeIfAbsent(domain, key -> new DomainQueue(domainRates.getOrDefault(key, defaultRatePerSecond), nanoTime.getAsLong()))
+					.messages.add(preparator);
+				submitted.signal();
+				return;
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		log.info("mail scheduler is stopping, sending mail to [{}] directly", domain);
+		send(List.of(preparator));
+	}
+
+	public Map<String, Integer> getQueueDepths() {
+		lock.lock();
+		try {
+			Map<String, Integer> depths = new HashMap<>();
+			queues.forEach((domain, queue) -> depths.put(domain, queue.messages.size()));
+			return depths;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${app.mail.queue-report-interval-millis:60000}")
+	public void reportQueueDepths() {
+		getQueueDepths().forEach((domain, depth) -> {
+			if (depth > 0) {
+				log.info("mail queue [{}] depth={}", domain, depth);
+			}
+		});
+	}
+
+	private void dispatch() {
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				idleWorkers.acquire();
+				SendTask task = takeNext();
+				executor.execute(() -> {
+					try {
+						task.run();
+					} finally {
+						idleWorkers.release();
+					}
+				});
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 여러 통이면 메시지를 하나씩 만들어 한 번에 보낸다. 만들다 실패한 메일만 빼고 나머지는 그대로 보낸다.
+	 */
+	private void send(List<MimeMessagePreparator> preparators) {
+		if (preparators.size() == 1) {
+			try {
+				javaMailSender.send(preparators.get(0));
+			} catch (RuntimeException e) {
+				log.error("failed to send mail", e);
+			}
+			return;
+		}
+
+		List<MimeMessage> mimeMessages = new ArrayList<>(preparators.size());
+		for (MimeMessagePreparator preparator : preparators) {
+			try {
+				MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+				preparator.prepare(mimeMessage);
+				mimeMessages.add(mimeMessage);
+			} catch (Exception e) {
+				log.error("failed to prepare mail", e);
+			}
+		}
+		try {
+			javaMailSender.send(mimeMessages.toArray(new MimeMessage[0]));
+		} catch (RuntimeException e) {
+			log.error("failed to send {} mails", mimeMessages.size(), e);
+		}
+	}
+
+	private Map<String, List<MimeMessagePreparator>> drainQueues() {
+		lock.lock();
+		try {
+			Map<String, List<MimeMessagePreparator>> remaining = new LinkedHashMap<>();
+			queues.forEach((domain, queue) -> {
+				if (!queue.messages.isEmpty()) {
+					remaining.put(domain, new ArrayList<>(queue.messages));
+					queue.messages.clear();
+				}
+			});
+			return remaining;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 지난번 다음 도메인부터 차례로 보면서 보낼 메일이 있고 발송 한도가 남은 첫 도메인의 메일을
+	 * 한도와 batchSize 가 허락하는 만큼 꺼낸다.
+	 * 그런 도메인이 없으면 새 메일이 들어오거나 가장 빠른 한도 회복 시각까지 기다린다.
+	 */
+	private SendTask takeNext() throws InterruptedException {
+		lock.lock();
+		try {
+			while (true) {
+				long now = nanoTime.getAsLong();
+				long waitNanos = Long.MAX_VALUE;
+				List<Map.Entry<String, DomainQueue>> domains = new ArrayList<>(queues.entrySet());
+				for (int i = 0; i < domains.size(); i++) {
+					int index = (nextDomain + i) % domains.size();
+					DomainQueue queue = domains.get(index).getValue();
+					if (queue.messages.isEmpty()) {
+						continue;
+					}
+					if (queue.tryAcquire(now)) {
+						nextDomain = index + 1;
+						List<MimeMessagePreparator> batch = new ArrayList<>();
+						batch.add(queue.messages.poll());
+						while (batch.size() < batchSize && !queue.messages.isEmpty() && queue.tryAcquire(now)) {
+							batch.add(queue.messages.poll());
+						}
+						return new SendTask(domains.get(index).getKey(), batch);
+					}
+					waitNanos = Math.min(waitNanos, queue.nanosUntilPermit(now));
+				}
+				queues.values().removeIf(queue -> queue.messages.isEmpty() && queue.isIdle(now));
+
+				if (waitNanos == Long.MAX_VALUE) {
+					submitted.await();
+				} else {
+					submitted.awaitNanos(waitNanos);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	static String domainOf(String recipient) {
+		return recipient.substring(recipient.lastIndexOf('@') + 1).toLowerCase(Locale.ROOT);
+	}
+
+	static Map<String, Double> parseRates(String rates) {
+		Map<String, Double> parsed = new HashMap<>();
+		for (String entry : rates.split(",")) {
+			if (entry.isBlank()) {
+				continue;
+			}
+			String[] pair = entry.split("=");
+			parsed.put(pair[0].trim().toLowerCase(Locale.ROOT), Double.parseDouble(pair[1].trim()));
+		}
+		return parsed;
+	}
+
+	private class SendTask implements Runnable {
+		private final String domain;
+		private final List<MimeMessagePreparator> preparators;
+
+		private SendTask(String domain, List<MimeMessagePreparator> preparators) {
+			this.domain = domain;
+			this.preparators = preparators;
+		}
+
+		@Override
+		public void run() {
+			send(preparators);
+		}
+	}
+
+	/**
+	 * 초당 ratePerSecond 개씩 채워지고 최대 ratePerSecond 개(최소 1개)까지 쌓이는 토큰 버킷.
+	 */
+	static class DomainQueue {
+		private final Queue<MimeMessagePreparator> messages = new ArrayDeque<>();
+		private final double ratePerSecond;
+		private final double capacity;
+		private double permits;
+		private long refilledAt;
+
+		DomainQueue(double ratePerSecond, long now) {
+			this.ratePerSecond = ratePerSecond;
+			this.capacity = Math.max(1, ratePerSecond);
+			this.permits = capacity;
+			this.refilledAt = now;
+		}
+
+		boolean tryAcquire(long now) {
+			refill(now);
+			if (permits >= 1) {
+				permits--;
+				return true;
+			}
+			return false;
+		}
+
+		long nanosUntilPermit(long now) {
+			refill(now);
+			return (long) Math.ceil((1 - permits) / ratePerSecond * TimeUnit.SECONDS.toNanos(1));
+		}
+
+		private boolean isIdle(long now) {
+			refill(now);
+			return permits >= capacity;
+		}
+
+		private void refill(long now) {
+			permits = Math.min(capacity, permits + (now - refilledAt) * ratePerSecond / TimeUnit.SECONDS.toNanos(1));
+			refilledAt = now;
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package com.studyolle.mail;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+/**
+ * templates/mail 아래의 같은 이름의 .html, .txt 템플릿으로 HTML 본문과 텍스트 본문을 만든다.
+ * 화면용 엔진과 분리된 전용 엔진이라 파싱된 템플릿은 항상 캐시된다.
+ */
+@Component
+public class MailTemplateRenderer {
+	private static final String PREFIX = "templates/mail/";
+
+	private final TemplateEngine templateEngine = new TemplateEngine();
+
+	public MailTemplateRenderer() {
+		templateEngine.addTemplateResolver(resolver(TemplateMode.HTML, "*.html", 1));
+		templateEngine.addTemplateResolver(resolver(TemplateMode.TEXT, "*.txt", 2));
+	}
+
+	public RenderedMail render(String template, String subject, Map<String, Object> variables) {
+		Map<String, Object> contextVariables = new HashMap<>(variables);
+		contextVariables.put("subject", subject);
+		Context context = new Context(Locale.KOREAN, contextVariables);
+		return new RenderedMail(subject,
+			templateEngine.process(template + ".html", context),
+			templateEngine.process(template + ".txt", context));
+	}
+
+	private static ClassLoaderTemplateResolver resolver(TemplateMode templateMode, String pattern, int order) {
+		ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+		resolver.setPrefix(PREFIX);
+		resolver.setTemplateMode(templateMode);
+		resolver.setResolvablePatterns(Set.of(pattern));
+		resolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		resolver.setCacheable(true);
+		resolver.setOrder(order);
+		return resolver;
+	}
+}
@@ -0,0 +1,134 @@
+package com.studyolle.mail;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import javax.mail.Address;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+/**
+ * 연결된 SMTP Transport 를 최대 poolSize 개까지 열어 두고 재사용하는 {@link JavaMailSenderImpl}.
+ * 한 번의 send 호출에 담긴 메시지는 모두 같은 연결로 보내며, 연결 오류가 나면 그 연결을 닫고 새로 연결해 한 번 더 시도한다.
+ */
+@Slf4j
+public class PooledSmtpMailSender extends JavaMailSenderImpl implements DisposableBean {
+	private final BlockingQueue<Transport> idleTransports;
+	private final Semaphore permits;
+
+	public PooledSmtpMailSender(int poolSize) {
+		this.idleTransports = new LinkedBlockingQueue<>(poolSize);
+		this.permits = new Semaphore(poolSize, true);
+	}
+
+	@Override
+	protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+		Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+		acquire();
+		Transport transport = idleTransports.poll();
+		try {
+			for (int i = 0; i < mimeMessages.length; i++) {
+				MimeMessage mimeMessage = mimeMessages[i];
+				Object original = originalMessages != null ? originalMessages[i] : mimeMessage;
+				try {
+					prepare(mimeMessage);
+				} catch (MessagingException e) {
+					failedMessages.put(original, e);
+					continue;
+				}
+
+				for (int attempt = 0; ; attempt++) {
+					try {
+						if (transport == null) {
+							transport = connectTransport();
+						}
+						transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+						break;
+					} catch (MessagingException e) {
+						if (isRejectedRecipient(e)) {
+							failedMessages.put(original, e);
+							break;
+						}
+						close(transport);
+						transport = null;
+						if (attempt > 0) {
+							failedMessages.put(original, e);
+							break;
+						}
+						log.debug("SMTP connection failed, reconnecting", e);
+					}
+				}
+			}
+		} finally {
+			if (transport != null && !idleTransports.offer(transport)) {
+				close(transport);
+			}
+			permits.release();
+		}
+
+		if (!failedMessages.isEmpty()) {
+			throw new MailSendException(failedMessages);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		Transport transport;
+		while ((transport = idleTransports.poll()) != null) {
+			close(transport);
+		}
+	}
+
+	private void acquire() {
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new MailSendException("SMTP 연결을 기다리는 중 중단됐습니다.", e);
+		}
+	}
+
+	private void prepare(MimeMessage mimeMessage) throws MessagingException {
+		if (mimeMessage.getSentDate() == null) {
+			mimeMessage.setSentDate(new Date());
+		}
+		String messageId = mimeMessage.getMessageID();
+		mimeMessage.saveChanges();
+		if (messageId != null) {
+			mimeMessage.setHeader("Message-ID", messageId);
+		}
+	}
+
+	/**
+	 * 수신자가 거부된 경우는 연결에 문제가 없으므로 재연결하지 않는다.
+	 * 서버가 연결을 끊었을 때도 SendFailedException 이 오지만 그때는 거부된 주소가 없다.
+	 */
+	private static boolean isRejectedRecipient(MessagingException e) {
+		if (!(e instanceof SendFailedException)) {
+			return false;
+		}
+		Address[] invalidAddresses = ((SendFailedException) e).getInvalidAddresses();
+		return invalidAddresses != null && invalidAddresses.length > 0;
+	}
+
+	private void close(Transport transport) {
+		if (transport == null) {
+			return;
+		}
+		try {
+			transport.close();
+		} catch (MessagingException e) {
+			log.debug("failed to close SMTP connection", e);
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package com.studyolle.main;
+
+import com.studyolle.cache.LruCache;
+import com.studyolle.domain.Account;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+/**
+ * 로그인 사용자의 네비게이션 바 메뉴(아바타, 드롭다운)를 (계정 id, version) 기준으로 렌더링해 보관한다.
+ * 프로필이나 닉네임이 바뀌면 version 이 바뀌어 다시 렌더링된다.
+ */
+@Component
+public class NavbarFragmentCache {
+	private final ITemplateEngine templateEngine;
+	private final LruCache<Long, CachedFragment> fragments;
+
+	public NavbarFragmentCache(ITemplateEngine templateEngine,
+	                           @Value("${app.navbar-cache.max-size:10000}") int maxSize) {
+		this.templateEngine = templateEngine;
+		this.fragments = new LruCache<>(maxSize);
+	}
+
+	public String render(Account account) {
+		CachedFragment fragment = fragments.get(account.getId());
+		if (fragment != null && Objects.equals(fragment.version, account.getVersion())) {
+			return fragment.html;
+		}
+
+		Context context = new Context(LocaleContextHolder.getLocale());
+		context.setVariable("account", account);
+		String html = templateEngine.process("fragments", Set.of("nav-user"), context);
+		fragments.put(account.getId(), new CachedFragment(account.getVersion(), html));
+		return html;
+	}
+
+	public void evict(Long accountId) {
+		fragments.remove(accountId);
+	}
+
+	private static class CachedFragment {
+		private final Long version;
+		private final String html;
+
+		private CachedFragment(Long version, String html) {
+			this.version = version;
+			this.html = html;
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package com.studyolle.notification;
+
+import com.studyolle.account.CurrentUser;
+import com.studyolle.domain.Account;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Controller
+@RequiredArgsConstructor
+public class NotificationController {
+	private final NotificationInboxService notificationInboxService;
+	private final NotificationPushService notificationPushService;
+
+	@GetMapping("/notifications")
+	public String notifications(@CurrentUser Account account, Model model) {
+		model.addAttribute("notifications", notificationInboxService.getUnread(account.getId()));
+		model.addAttribute("numberOfUnread", notificationInboxService.countUnread(account.getId()));
+		return "notification/list";
+	}
+
+	@PostMapping("/notifications/read")
+	public String checkAll(@CurrentUser Account account) {
+		notificationInboxService.checkAll(account.getId());
+		return "redirect:/notifications";
+	}
+
+	@ResponseBody
+	@GetMapping(value = "/notifications/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter stream(@CurrentUser Account account) {
+		return notificationPushService.subscribe(account.getId(),
+			notificationInboxService.countUnread(account.getId()));
+	}
+}
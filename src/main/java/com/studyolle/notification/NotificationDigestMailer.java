@@ -0,0 +1,51 @@
+package com.studyolle.notification;
+
+import com.studyolle.account.NotificationRecipient;
+import com.studyolle.mail.MailScheduler;
+import com.studyolle.mail.MailTemplateRenderer;
+import com.studyolle.mail.RenderedMail;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NotificationDigestMailer {
+	private static final String TEMPLATE = "notification-digest";
+
+	private final MailScheduler mailScheduler;
+	private final MailTemplateRenderer mailTemplateRenderer;
+	private final String host;
+	private final String from;
+
+	public NotificationDigestMailer(MailScheduler mailScheduler, MailTemplateRenderer mailTemplateRenderer,
+	                                @Value("${app.host:http://localhost:8080}") String host,
+	                                @Value("${app.mail.from:no-reply@studyolle.com}") String from) {
+		this.mailScheduler = mailScheduler;
+		this.mailTemplateRenderer = mailTemplateRenderer;
+		this.host = host;
+		this.from = from;
+	}
+
+	public void send(NotificationRecipient recipient, List<NotificationItem> items) {
+		Map<NotificationType, List<NotificationItem>> itemsByType = items.stream()
+			.collect(Collectors.groupingBy(NotificationItem::getType, () -> new EnumMap<>(NotificationType.class),
+				Collectors.toList()));
+		RenderedMail mail = mailTemplateRenderer.render(TEMPLATE, "스터디올래, 새 소식 " + items.size() + "건", Map.of(
+			"nickname", recipient.getNickname(),
+			"host", host,
+			"itemsByType", itemsByType));
+
+		mailScheduler.submit(recipient.getEmail(), mimeMessage -> {
+			MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, StandardCharsets.UTF_8.name());
+			helper.setFrom(from);
+			helper.setTo(recipient.getEmail());
+			helper.setSubject(mail.getSubject());
+			helper.setText(mail.getText(), mail.getHtml());
+		});
+	}
+}
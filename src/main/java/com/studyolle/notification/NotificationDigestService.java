@@ -0,0 +1,104 @@
+package com.studyolle.notification;
+
+import com.studyolle.account.AccountRepository;
+import com.studyolle.account.NotificationRecipient;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 알림을 받는 사람별로 모아 두었다가 주기마다 한 통의 digest 메일로 보낸다.
+ * 같은 알림(type, path)은 주기 안에서 하나로 합치고, 계정의 *ByEmail 설정이 꺼진 종류는 뺀다.
+ * 수신자 설정은 chunk 단위로 한 번에 조회한다.
+ * 모아 둔 알림은 메모리에만 있으므로 종료할 때 남은 것을 보낸 뒤 종료한다.
+ */
+@Slf4j
+@Lazy(false)
+@Service
+public class NotificationDigestService {
+	private final AccountRepository accountRepository;
+	private final NotificationDigestMailer notificationDigestMailer;
+	private final int chunkSize;
+
+	private final ReadWriteLock windowLock = new ReentrantReadWriteLock();
+	private Map<Long, Map<String, NotificationItem>> pending = new ConcurrentHashMap<>();
+
+	public NotificationDigestService(AccountRepository accountRepository,
+	                                 NotificationDigestMailer notificationDigestMailer,
+	                                 @Value("${app.notification.digest-chunk-size:500}") int chunkSize) {
+		this.accountRepository = accountRepository;
+		this.notificationDigestMailer = notificationDigestMailer;
+		this.chunkSize = chunkSize;
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onNotification(NotificationEvent event) {
+		NotificationItem item = new NotificationItem(event.getType(), event.getTitle(), event.getPath());
+		String key = event.getType() + ":" + event.getPath();
+		windowLock.readLock().lock();
+		try {
+			for (Long recipientId : event.getRecipientIds()) {
+				pending.compute(recipientId, (id, items) -> {
+					Map<String, NotificationItem> merged = items == null ? new LinkedHashMap<>() : items;
+					merged.put(key, item);
+					return merged;
+				});
+			}
+		} finally {
+			windowLock.readLock().unlock();
+		}
+	}
+
+	@PreDestroy
+	public void flush() {
+		log.info("sending pending notification digests before shutdown");
+		sendDigests();
+	}
+
+	@Scheduled(fixedDelayString = "${app.notification.digest-interval-millis:600000}")
+	public void sendDigests() {
+		Map<Long, Map<String, NotificationItem>> window;
+		windowLock.writeLock().lock();
+		try {
+			window = pending;
+			pending = new ConcurrentHashMap<>();
+		} finally {
+			windowLock.writeLock().unlock();
+		}
+		if (window.isEmpty()) {
+			return;
+		}
+
+		List<Long> recipientIds = new ArrayList<>(window.keySet());
+		int sent = 0;
+		for (int from = 0; from < recipientIds.size(); from += chunkSize) {
+			List<Long> chunk = recipientIds.subList(from, Math.min(from + chunkSize, recipientIds.size()));
+			for (NotificationRecipient recipient : accountRepository.findNotificationRecipientsByIdIn(chunk)) {
+				if (!recipient.isEmailVerified()) {
+					continue;
+				}
+				List<NotificationItem> items = window.get(recipient.getId()).values().stream()
+					.filter(item -> item.getType().isEmailEnabled(recipient))
+					.collect(Collectors.toList());
+				if (!items.isEmpty()) {
+					notificationDigestMailer.send(recipient, items);
+					sent++;
+				}
+			}
+		}
+		log.info("sent {} notification digests for {} recipients", sent, recipientIds.size());
+	}
+}
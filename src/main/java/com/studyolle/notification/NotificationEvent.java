@@ -0,0 +1,17 @@
+package com.studyolle.notification;
+
+import java.util.Collection;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여러 계정에게 보낼 알림. 같은 type 과 path 의 알림은 한 digest 안에서 하나로 합쳐진다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationEvent {
+	private final NotificationType type;
+	private final Collection<Long> recipientIds;
+	private final String title;
+	private final String path;
+}
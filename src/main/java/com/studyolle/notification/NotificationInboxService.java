@@ -0,0 +1,97 @@
+package com.studyolle.notification;
+
+import com.studyolle.account.AccountRepository;
+import com.studyolle.domain.Notification;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사이트 안 알림함. 계정의 *ByWeb 설정이 켜진 종류만 저장하고,
+ * 저장한 뒤에 읽지 않은 알림 수를 갱신해 열려 있는 SSE 연결로 보낸다.
+ * 이벤트를 발행한 트랜잭션이 커밋된 뒤에만 받고, chunk 마다 별도 트랜잭션에서 저장한 다음 보낸다.
+ */
+@Slf4j
+@Service
+public class NotificationInboxService {
+	private static final int PAGE_SIZE = 50;
+
+	private final AccountRepository accountRepository;
+	private final NotificationRepository notificationRepository;
+	private final UnreadNotificationCounter unreadNotificationCounter;
+	private final NotificationPushService notificationPushService;
+	private final PlatformTransactionManager transactionManager;
+	private final int chunkSize;
+
+	public NotificationInboxService(AccountRepository accountRepository,
+	                                NotificationRepository notificationRepository,
+	                                UnreadNotificationCounter unreadNotificationCounter,
+	                                NotificationPushService notificationPushService,
+	                                PlatformTransactionManager transactionManager,
+	                                @Value("${app.notification.digest-chunk-size:500}") int chunkSize) {
+		this.accountRepository = accountRepository;
+		this.notificationRepository = notificationRepository;
+		this.unreadNotificationCounter = unreadNotificationCounter;
+		this.notificationPushService = notificationPushService;
+		this.transactionManager = transactionManager;
+		this.chunkSize = chunkSize;
+	}
+
+	@Async
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onNotification(NotificationEvent event) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		List<Long> recipientIds = new ArrayList<>(event.getRecipientIds());
+		LocalDateTime now = LocalDateTime.now();
+		for (int from = 0; from < recipientIds.size(); from += chunkSize) {
+			List<Long> chunk = recipientIds.subList(from, Math.min(from + chunkSize, recipientIds.size()));
+			List<Notification> notifications = transactionTemplate.execute(status -> {
+				List<Notification> created = accountRepository.findNotificationRecipientsByIdIn(chunk).stream()
+					.filter(recipient -> event.getType().isWebEnabled(recipient))
+					.map(recipient -> Notification.builder()
+						.account(accountRepository.getOne(recipient.getId()))
+						.type(event.getType())
+						.title(event.getTitle())
+						.link(event.getPath())
+						.createdAt(now)
+						.build())
+					.collect(Collectors.toList());
+				notificationRepository.saveAll(created);
+				return created;
+			});
+			notifications.forEach(notification -> {
+				Long accountId = notification.getAccount().getId();
+				notificationPushService.push(accountId, unreadNotificationCounter.add(accountId, 1));
+			});
+		}
+	}
+
+	public List<Notification> getUnread(Long accountId) {
+		return notificationRepository.findByAccountIdAndCheckedOrderByCreatedAtDesc(accountId, false,
+			PageRequest.of(0, PAGE_SIZE));
+	}
+
+	/**
+	 * update 와 카운터 갱신 사이에 새 알림이 저장될 수 있으므로 0 으로 두지 않고 DB 에서 다시 센다.
+	 */
+	public void checkAll(Long accountId) {
+		int checked = notificationRepository.checkAll(accountId);
+		unreadNotificationCounter.evict(accountId);
+		notificationPushService.push(accountId, unreadNotificationCounter.get(accountId));
+		log.debug("checked {} notifications of account {}", checked, accountId);
+	}
+
+	public long countUnread(Long accountId) {
+		return unreadNotificationCounter.get(accountId);
+	}
+}
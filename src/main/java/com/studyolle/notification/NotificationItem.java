@@ -0,0 +1,12 @@
+package com.studyolle.notification;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class NotificationItem {
+	private final NotificationType type;
+	private final String title;
+	private final String path;
+}
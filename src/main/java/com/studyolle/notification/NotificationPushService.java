@@ -0,0 +1,65 @@
+package com.studyolle.notification;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 열려 있는 SSE 연결로 읽지 않은 알림 수를 보낸다. 한 계정이 여러 탭에서 연결할 수 있다.
+ * 연결은 이 노드의 메모리에만 있어서 다른 노드에 붙은 탭에는 보내지 못한다.
+ * 여러 노드로 띄우면 그런 탭은 다시 연결하거나 페이지를 열 때 {@link UnreadNotificationCounter} 의 값을 받는다.
+ */
+@Slf4j
+@Component
+public class NotificationPushService {
+	static final String UNREAD_EVENT = "unread";
+
+	private final long timeoutMillis;
+	private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+	public NotificationPushService(@Value("${app.notification.sse-timeout-millis:1800000}") long timeoutMillis) {
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	public SseEmitter subscribe(Long accountId, long unread) {
+		SseEmitter emitter = new SseEmitter(timeoutMillis);
+		emitters.computeIfAbsent(accountId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+		emitter.onCompletion(() -> remove(accountId, emitter));
+		emitter.onTimeout(() -> remove(accountId, emitter));
+		emitter.onError(e -> remove(accountId, emitter));
+		send(accountId, emitter, unread);
+		return emitter;
+	}
+
+	public void push(Long accountId, long unread) {
+		Set<SseEmitter> subscribed = emitters.get(accountId);
+		if (subscribed != null) {
+			subscribed.forEach(emitter -> send(accountId, emitter, unread));
+		}
+	}
+
+	public int getSubscriberCount() {
+		return emitters.values().stream().mapToInt(Set::size).sum();
+	}
+
+	private void send(Long accountId, SseEmitter emitter, long unread) {
+		try {
+			emitter.send(SseEmitter.event().name(UNREAD_EVENT).data(unread));
+		} catch (IOException | IllegalStateException e) {
+			log.debug("drop notification stream of account {}: {}", accountId, e.getMessage());
+			remove(accountId, emitter);
+		}
+	}
+
+	private void remove(Long accountId, SseEmitter emitter) {
+		emitters.computeIfPresent(accountId, (id, subscribed) -> {
+			subscribed.remove(emitter);
+			return subscribed.isEmpty() ? null : subscribed;
+		});
+	}
+}
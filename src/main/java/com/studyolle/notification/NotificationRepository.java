@@ -0,0 +1,22 @@
+package com.studyolle.notification;
+
+import com.studyolle.domain.Notification;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(readOnly = true)
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+	long countByAccountIdAndChecked(Long accountId, boolean checked);
+
+	List<Notification> findByAccountIdAndCheckedOrderByCreatedAtDesc(Long accountId, boolean checked, Pageable pageable);
+
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Notification n set n.checked = true where n.account.id = :accountId and n.checked = false")
+	int checkAll(@Param("accountId") Long accountId);
+}
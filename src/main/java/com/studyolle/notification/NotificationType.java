@@ -0,0 +1,36 @@
+package com.studyolle.notification;
+
+import com.studyolle.account.NotificationRecipient;
+import java.util.function.Predicate;
+
+public enum NotificationType {
+	STUDY_CREATED("관심 주제의 새 스터디",
+		NotificationRecipient::isStudyCreatedByEmail, NotificationRecipient::isStudyCreatedByWeb),
+	STUDY_ENROLLMENT_RESULT("스터디 참가 신청 결과",
+		NotificationRecipient::isStudyEnrollmentResultByEmail, NotificationRecipient::isStudyEnrollmentResultByWeb),
+	STUDY_UPDATED("참여 중인 스터디 소식",
+		NotificationRecipient::isStudyUpdatedByEmail, NotificationRecipient::isStudyUpdatedByWeb);
+
+	private final String description;
+	private final Predicate<NotificationRecipient> emailEnabled;
+	private final Predicate<NotificationRecipient> webEnabled;
+
+	NotificationType(String description, Predicate<NotificationRecipient> emailEnabled,
+	                 Predicate<NotificationRecipient> webEnabled) {
+		this.description = description;
+		this.emailEnabled = emailEnabled;
+		this.webEnabled = webEnabled;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public boolean isEmailEnabled(NotificationRecipient recipient) {
+		return emailEnabled.test(recipient);
+	}
+
+	public boolean isWebEnabled(NotificationRecipient recipient) {
+		return webEnabled.test(recipient);
+	}
+}
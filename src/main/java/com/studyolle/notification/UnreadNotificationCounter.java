@@ -0,0 +1,66 @@
+package com.studyolle.notification;
+
+import com.studyolle.cache.LruCache;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계정별 읽지 않은 알림 수. 계정마다 처음 한 번 DB 에서 세고, 이후에는 알림 생성 때 값을 고쳐 쓴다.
+ * 따라서 화면마다 COUNT 쿼리를 실행하지 않는다.
+ * 다른 노드에서 저장된 알림은 이 값에 더해지지 않으므로 ttl 이 지나면 DB 에서 다시 센다.
+ */
+@Component
+public class UnreadNotificationCounter {
+	private final NotificationRepository notificationRepository;
+	private final long ttlMillis;
+	private final LruCache<Long, Count> counts;
+
+	public UnreadNotificationCounter(NotificationRepository notificationRepository,
+	                                 @Value("${app.notification.unread-cache.max-size:10000}") int maxSize,
+	                                 @Value("${app.notification.unread-cache.ttl-millis:60000}") long ttlMillis) {
+		this.notificationRepository = notificationRepository;
+		this.ttlMillis = ttlMillis;
+		this.counts = new LruCache<>(maxSize);
+	}
+
+	public long get(Long accountId) {
+		Count count = counts.get(accountId);
+		if (count != null && !count.isExpired(System.currentTimeMillis(), ttlMillis)) {
+			return count.value.get();
+		}
+
+		long unread = notificationRepository.countByAccountIdAndChecked(accountId, false);
+		counts.put(accountId, new Count(unread, System.currentTimeMillis()));
+		return unread;
+	}
+
+	/**
+	 * 아직 센 적이 없거나 만료된 계정은 DB 값을 읽으므로 따로 더하지 않는다.
+	 */
+	long add(Long accountId, long delta) {
+		Count count = counts.get(accountId);
+		if (count == null || count.isExpired(System.currentTimeMillis(), ttlMillis)) {
+			return get(accountId);
+		}
+		return count.value.addAndGet(delta);
+	}
+
+	void evict(Long accountId) {
+		counts.remove(accountId);
+	}
+
+	private static class Count {
+		private final AtomicLong value;
+		private final long loadedAt;
+
+		private Count(long value, long loadedAt) {
+			this.value = new AtomicLong(value);
+			this.loadedAt = loadedAt;
+		}
+
+		private boolean isExpired(long now, long ttlMillis) {
+			return now - loadedAt >= ttlMillis;
+		}
+	}
+}
@@ -0,0 +1,264 @@
+package com.studyolle.recommend;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Roaring 방식으로 압축한 int 집합. 상위 16비트로 container 를 나누고, container 안의 원소가 4096개 이하면
+ * 정렬된 char 배열, 그보다 많으면 65536비트 bitmap 으로 저장한다. 드문드문한 관심 주제는 원소당 2바이트,
+ * 인기 주제는 container 당 8KB 로 고정된다. 동기화하지 않으므로 호출하는 쪽에서 잠가야 한다.
+ */
+public class AccountIdBitmap {
+	static final int CONTAINER_SIZE = 1 << 16;
+	private static final int ARRAY_CONTAINER_MAX = 4096;
+
+	private char[] keys = new char[0];
+	private Container[] containers = new Container[0];
+	private int size;
+	private int cardinality;
+
+	public boolean add(int value) {
+		char key = (char) (value >>> 16);
+		int index = indexOf(key);
+		if (index < 0) {
+			index = -index - 1;
+			insertContainer(index, key, new ArrayContainer());
+		}
+		Container container = containers[index];
+		if (container.contains((char) value)) {
+			return false;
+		}
+		containers[index] = container.add((char) value);
+		cardinality++;
+		return true;
+	}
+
+	public boolean remove(int value) {
+		int index = indexOf((char) (value >>> 16));
+		if (index < 0 || !containers[index].contains((char) value)) {
+			return false;
+		}
+		Container container = containers[index].remove((char) value);
+		if (container.cardinality() == 0) {
+			removeContainer(index);
+		} else {
+			containers[index] = container;
+		}
+		cardinality--;
+		return true;
+	}
+
+	public boolean contains(int value) {
+		int index = indexOf((char) (value >>> 16));
+		return index >= 0 && containers[index].contains((char) value);
+	}
+
+	public int getCardinality() {
+		return cardinality;
+	}
+
+	public boolean isEmpty() {
+		return cardinality == 0;
+	}
+
+	public void forEach(IntConsumer consumer) {
+		for (int i = 0; i < size; i++) {
+			containers[i].forEach(keys[i] << 16, consumer);
+		}
+	}
+
+	public long getSizeInBytes() {
+		long bytes = size * 2L;
+		for (int i = 0; i < size; i++) {
+			bytes += containers[i].getSizeInBytes();
+		}
+		return bytes;
+	}
+
+	int getContainerCount() {
+		return size;
+	}
+
+	char getKeyAt(int index) {
+		return keys[index];
+	}
+
+	/**
+	 * key 에 해당하는 container 의 원소마다 counts[하위 16비트] 를 1 늘린다.
+	 */
+	void countContainer(char key, short[] counts) {
+		int index = indexOf(key);
+		if (index >= 0) {
+			containers[index].count(counts);
+		}
+	}
+
+	private int indexOf(char key) {
+		return Arrays.binarySearch(keys, 0, size, key);
+	}
+
+	private void insertContainer(int index, char key, Container container) {
+		if (size == keys.length) {
+			int capacity = Math.max(4, size * 2);
+			keys = Arrays.copyOf(keys, capacity);
+			containers = Arrays.copyOf(containers, capacity);
+		}
+		System.arraycopy(keys, index, keys, index + 1, size - index);
+		System.arraycopy(containers, index, containers, index + 1, size - index);
+		keys[index] = key;
+		containers[index] = container;
+		size++;
+	}
+
+	private void removeContainer(int index) {
+		System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+		System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+		containers[--size] = null;
+	}
+
+	private interface Container {
+		boolean contains(char value);
+
+		Container add(char value);
+
+		Container remove(char value);
+
+		int cardinality();
+
+		void count(short[] counts);
+
+		void forEach(int high, IntConsumer consumer);
+
+		long getSizeInBytes();
+	}
+
+	private static class ArrayContainer implements Container {
+		private char[] values = new char[4];
+		private int cardinality;
+
+		@Override
+		public boolean contains(char value) {
+			return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+		}
+
+		@Override
+		public Container add(char value) {
+			if (cardinality == ARRAY_CONTAINER_MAX) {
+				return toBitmap().add(value);
+			}
+			int index = -Arrays.binarySearch(values, 0, cardinality, value) - 1;
+			if (cardinality == values.length) {
+				values = Arrays.copyOf(values, Math.min(ARRAY_CONTAINER_MAX, cardinality * 2));
+			}
+			System.arraycopy(values, index, values, index + 1, cardinality - index);
+			values[index] = value;
+			cardinality++;
+			return this;
+		}
+
+		@Override
+		public Container remove(char value) {
+			int index = Arrays.binarySearch(values, 0, cardinality, value);
+			System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+			cardinality--;
+			if (cardinality < values.length / 4) {
+				values = Arrays.copyOf(values, values.length / 2);
+			}
+			return this;
+		}
+
+		@Override
+		public int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		public void count(short[] counts) {
+			for (int i = 0; i < cardinality; i++) {
+				counts[values[i]]++;
+			}
+		}
+
+		@Override
+		public void forEach(int high, IntConsumer consumer) {
+			for (int i = 0; i < cardinality; i++) {
+				consumer.accept(high | values[i]);
+			}
+		}
+
+		@Override
+		public long getSizeInBytes() {
+			return values.length * 2L;
+		}
+
+		private BitmapContainer toBitmap() {
+			BitmapContainer bitmap = new BitmapContainer();
+			for (int i = 0; i < cardinality; i++) {
+				bitmap.add(values[i]);
+			}
+			return bitmap;
+		}
+	}
+
+	private static class BitmapContainer implements Container {
+		private final long[] words = new long[CONTAINER_SIZE / 64];
+		private int cardinality;
+
+		@Override
+		public boolean contains(char value) {
+			return (words[value >>> 6] & (1L << value)) != 0;
+		}
+
+		@Override
+		public Container add(char value) {
+			words[value >>> 6] |= 1L << value;
+			cardinality++;
+			return this;
+		}
+
+		@Override
+		public Container remove(char value) {
+			words[value >>> 6] &= ~(1L << value);
+			cardinality--;
+			return cardinality <= ARRAY_CONTAINER_MAX ? toArray() : this;
+		}
+
+		@Override
+		public int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		public void count(short[] counts) {
+			for (int i = 0; i < words.length; i++) {
+				long word = words[i];
+				while (word != 0) {
+					counts[(i << 6) + Long.numberOfTrailingZeros(word)]++;
+					word &= word - 1;
+				}
+			}
+		}
+
+		@Override
+		public void forEach(int high, IntConsumer consumer) {
+			for (int i = 0; i < words.length; i++) {
+				long word = words[i];
+				while (word != 0) {
+					consumer.accept(high | (i << 6) + Long.numberOfTrailingZeros(word));
+					word &= word - 1;
+				}
+			}
+		}
+
+		@Override
+		public long getSizeInBytes() {
+			return words.length * 8L;
+		}
+
+		private ArrayContainer toArray() {
+			ArrayContainer array = new ArrayContainer();
+			forEach(0, value -> array.add((char) value));
+			return array;
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package com.studyolle.recommend;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class SimilarAccount {
+	private final String nickname;
+	private final String bio;
+	private final int commonTags;
+}
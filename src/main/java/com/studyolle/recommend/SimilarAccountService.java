@@ -0,0 +1,40 @@
+package com.studyolle.recommend;
+
+import com.studyolle.account.AccountRepository;
+import com.studyolle.account.AccountSummary;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 관심 주제가 겹치는 회원. 순위는 {@link TagInterestIndex} 에서 구하고, 화면에 보여 줄 정보만 한 번에 조회한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SimilarAccountService {
+	private final TagInterestIndex tagInterestIndex;
+	private final AccountRepository accountRepository;
+
+	public List<SimilarAccount> findSimilar(Long accountId, int limit) {
+		List<TagOverlap> overlaps = tagInterestIndex.findSimilar(accountId, limit);
+		if (overlaps.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, AccountSummary> summaries = accountRepository.findSummariesByIdIn(
+			overlaps.stream().map(TagOverlap::getAccountId).collect(Collectors.toList())).stream()
+			.collect(Collectors.toMap(AccountSummary::getId, Function.identity()));
+		return overlaps.stream()
+			.map(overlap -> {
+				AccountSummary summary = summaries.get(overlap.getAccountId());
+				return summary == null ? null
+					: new SimilarAccount(summary.getNickname(), summary.getBio(), overlap.getCommonTags());
+			})
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,165 @@
+package com.studyolle.recommend;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관심 주제 id 에서 계정 id 집합({@link AccountIdBitmap})으로 가는 메모리 역색인.
+ * 계정별 관심 주제 목록은 따로 들고 있지 않고 주제 bitmap 에 포함되는지로 구한다. 주제 수는 계정 수보다 훨씬 적다.
+ * 겹치는 관심 주제 수는 container(계정 id 65536개) 단위로 세므로 계정 수와 상관없이 작업 메모리가 고정된다.
+ */
+@Component
+public class TagInterestIndex {
+	private static final Comparator<TagOverlap> RANKING = Comparator.comparingInt(TagOverlap::getCommonTags)
+		.thenComparing(TagOverlap::getAccountId, Comparator.reverseOrder());
+
+	private final Map<Long, AccountIdBitmap> accountsByTag = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	public void add(Long accountId, Long tagId) {
+		int id = toIntId(accountId);
+		lock.writeLock().lock();
+		try {
+			accountsByTag.computeIfAbsent(tagId, key -> new AccountIdBitmap()).add(id);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 계정의 관심 주제를 tagIds 로 바꾼다. 바뀐 주제의 bitmap 만 고친다.
+	 */
+	public void update(Long accountId, Collection<Long> tagIds) {
+		int id = toIntId(accountId);
+		Set<Long> current = new HashSet<>(tagIds);
+		lock.writeLock().lock();
+		try {
+			Iterator<Map.Entry<Long, AccountIdBitmap>> entries = accountsByTag.entrySet().iterator();
+			while (entries.hasNext()) {
+				Map.Entry<Long, AccountIdBitmap> entry = entries.next();
+				if (current.remove(entry.getKey())) {
+					entry.getValue().add(id);
+				} else if (entry.getValue().remove(id) && entry.getValue().isEmpty()) {
+					entries.remove();
+				}
+			}
+			current.forEach(tagId -> accountsByTag.computeIfAbsent(tagId, key -> new AccountIdBitmap()).add(id));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	Set<Long> getTagIds(Long accountId) {
+		int id = toIntId(accountId);
+		lock.readLock().lock();
+		try {
+			Set<Long> tagIds = new HashSet<>();
+			accountsByTag.forEach((tagId, accounts) -> {
+				if (accounts.contains(id)) {
+					tagIds.add(tagId);
+				}
+			});
+			return tagIds;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 관심 주제가 가장 많이 겹치는 계정을 limit 개까지 돌려준다. 겹치는 수가 같으면 id 가 작은(먼저 가입한) 계정이 앞선다.
+	 */
+	public List<TagOverlap> findSimilar(Long accountId, int limit) {
+		int id = toIntId(accountId);
+		lock.readLock().lock();
+		try {
+			List<AccountIdBitmap> interests = new ArrayList<>();
+			accountsByTag.values().forEach(accounts -> {
+				if (accounts.contains(id)) {
+					interests.add(accounts);
+				}
+			});
+			if (interests.isEmpty() || limit <= 0) {
+				return List.of();
+			}
+
+			PriorityQueue<TagOverlap> top = new PriorityQueue<>(limit + 1, RANKING);
+			short[] counts = new short[AccountIdBitmap.CONTAINER_SIZE];
+			for (char key : containerKeys(interests)) {
+				Arrays.fill(counts, (short) 0);
+				interests.forEach(accounts -> accounts.countContainer(key, counts));
+				int high = key << 16;
+				for (int low = 0; low < counts.length; low++) {
+					int commonTags = counts[low];
+					if (commonTags == 0 || (high | low) == id) {
+						continue;
+					}
+					if (top.size() < limit || commonTags > top.peek().getCommonTags()) {
+						top.offer(new TagOverlap((long) (high | low), commonTags));
+						if (top.size() > limit) {
+							top.poll();
+						}
+					}
+				}
+			}
+
+			List<TagOverlap> similar = new ArrayList<>(top);
+			similar.sort(RANKING.reversed());
+			return similar;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int getTagCount() {
+		lock.readLock().lock();
+		try {
+			return accountsByTag.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public long getSizeInBytes() {
+		lock.readLock().lock();
+		try {
+			return accountsByTag.values().stream().mapToLong(AccountIdBitmap::getSizeInBytes).sum();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private char[] containerKeys(List<AccountIdBitmap> bitmaps) {
+		Set<Character> keys = new HashSet<>();
+		for (AccountIdBitmap bitmap : bitmaps) {
+			for (int i = 0; i < bitmap.getContainerCount(); i++) {
+				keys.add(bitmap.getKeyAt(i));
+			}
+		}
+		char[] sorted = new char[keys.size()];
+		int i = 0;
+		for (Character key : keys) {
+			sorted[i++] = key;
+		}
+		Arrays.sort(sorted);
+		return sorted;
+	}
+
+	private int toIntId(Long accountId) {
+		if (accountId == null || accountId < 0 || accountId > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("색인할 수 없는 계정 id 입니다: " + accountId);
+		}
+		return accountId.intValue();
+	}
+}
@@ -0,0 +1,67 @@
+package com.studyolle.recommend;
+
+import com.studyolle.account.AccountRepository;
+import com.studyolle.account.AccountTagId;
+import com.studyolle.account.event.TagsUpdated;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 재구축은 태그를 더하기만 하므로, 재구축 도중 들어온 관심 주제 변경은 모아 두었다가 재구축이 끝난 뒤에 적용한다.
+ * 그렇지 않으면 변경으로 지운 태그를 재구축이 먼저 읽어 둔 값으로 다시 더할 수 있다.
+ */
+@Slf4j
+@Async
+@Component
+@RequiredArgsConstructor
+public class TagInterestIndexer {
+	private static final long REBUILD_ID_RANGE = 10_000;
+
+	private final AccountRepository accountRepository;
+	private final TagInterestIndex tagInterestIndex;
+
+	private final Object rebuildLock = new Object();
+	private List<TagsUpdated> pending = new ArrayList<>();
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		try {
+			Long maxId = accountRepository.findMaxId();
+			for (long after = 0; maxId != null && after < maxId; after += REBUILD_ID_RANGE) {
+				for (AccountTagId accountTag : accountRepository.findTagIdsByAccountIdBetween(after, after + REBUILD_ID_RANGE)) {
+					tagInterestIndex.add(accountTag.getAccountId(), accountTag.getTagId());
+				}
+			}
+		} finally {
+			synchronized (rebuildLock) {
+				pending.forEach(this::update);
+				pending = null;
+			}
+		}
+		log.info("tag interest index built with {} tags, {} bytes",
+			tagInterestIndex.getTagCount(), tagInterestIndex.getSizeInBytes());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onTagsUpdated(TagsUpdated event) {
+		synchronized (rebuildLock) {
+			if (pending != null) {
+				pending.add(event);
+				return;
+			}
+		}
+		update(event);
+	}
+
+	private void update(TagsUpdated event) {
+		tagInterestIndex.update(event.getAccount().getId(), event.getTagIds());
+	}
+}
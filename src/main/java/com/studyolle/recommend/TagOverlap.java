@@ -0,0 +1,11 @@
+package com.studyolle.recommend;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class TagOverlap {
+	private final Long accountId;
+	private final int commonTags;
+}
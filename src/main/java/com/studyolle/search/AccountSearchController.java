@@ -0,0 +1,19 @@
+package com.studyolle.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class AccountSearchController {
+	private final AccountSearchIndex accountSearchIndex;
+
+	@GetMapping("/search/account")
+	public Page<AccountSearchResult> searchAccount(String keyword, @PageableDefault(size = 20) Pageable pageable) {
+		return accountSearchIndex.search(keyword, pageable);
+	}
+}
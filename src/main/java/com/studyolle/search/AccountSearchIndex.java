@@ -0,0 +1,213 @@
+package com.studyolle.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 닉네임, 소개, 직업, 지역, 관심 주제를 bigram 으로 색인하는 메모리 역색인.
+ * 검색어의 bigram 을 모두 가진 후보를 교집합으로 구한 뒤 원문 포함 여부로 한 번 더 거른다.
+ * 한 글자 검색어를 위해 문서의 각 글자도 함께 색인한다.
+ * <p>
+ * 빌드에 Lucene 의존성을 추가할 수 없어 직접 만든 색인이며 Lucene 과 달리 다음이 없다.
+ * <ul>
+ *   <li>점수에 따른 정렬. 결과는 계정 id 순이다.</li>
+ *   <li>형태소 분석, 동의어, 오타 허용. 소문자로 바꾼 뒤 글자와 숫자 단위로만 자른다.</li>
+ *   <li>디스크 색인. 모든 문서와 posting 을 힙에 두고 기동할 때마다 DB 에서 다시 만든다.</li>
+ * </ul>
+ * 회원 수가 힙에 담기 어려울 만큼 늘거나 관련도 정렬이 필요해지면 Lucene 으로 바꿔야 한다.
+ */
+@Component
+public class AccountSearchIndex {
+	private final Map<String, Set<Long>> postings = new HashMap<>();
+	private final Map<Long, Document> documents = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	public void index(Long id, String nickname, String bio, String occupation, String location,
+	                  Collection<String> tags) {
+		Document document = new Document(new AccountSearchResult(id, nickname, bio, occupation, location),
+			tags == null ? List.of() : List.copyOf(tags));
+
+		lock.writeLock().lock();
+		try {
+			removeInternal(id);
+			documents.put(id, document);
+			document.terms.forEach(term -> postings.computeIfAbsent(term, key -> new TreeSet<>()).add(id));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public List<String> getTags(Long id) {
+		lock.readLock().lock();
+		try {
+			Document document = documents.get(id);
+			return document == null ? List.of() : document.tags;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public void remove(Long id) {
+		lock.writeLock().lock();
+		try {
+			removeInternal(id);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public Page<AccountSearchResult> search(String keyword, Pageable pageable) {
+		List<String> tokens = tokenize(keyword);
+		if (tokens.isEmpty()) {
+			return Page.empty(pageable);
+		}
+
+		lock.readLock().lock();
+		try {
+			List<Long> matches = new ArrayList<>();
+			for (Long id : candidates(tokens)) {
+				if (documents.get(id).containsAll(tokens)) {
+					matches.add(id);
+				}
+			}
+
+			int from = (int) Math.min(pageable.getOffset(), matches.size());
+			int to = Math.min(from + pageable.getPageSize(), matches.size());
+			List<AccountSearchResult> content = matches.subList(from, to).stream()
+				.map(id -> documents.get(id).result)
+				.collect(Collectors.toList());
+			return new PageImpl<>(content, pageable, matches.size());
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return documents.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private Collection<Long> candidates(List<String> tokens) {
+		List<Set<Long>> lists = new ArrayList<>();
+		for (String term : terms(tokens)) {
+			Set<Long> posting = postings.get(term);
+			if (posting == null) {
+				return Collections.emptySet();
+			}
+			lists.add(posting);
+		}
+		lists.sort((left, right) -> Integer.compare(left.size(), right.size()));
+
+		Set<Long> result = new TreeSet<>(lists.get(0));
+		for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+			result.retainAll(lists.get(i));
+		}
+		return result;
+	}
+
+	private void removeInternal(Long id) {
+		Document previous = documents.remove(id);
+		if (previous == null) {
+			return;
+		}
+		for (String term : previous.terms) {
+			Set<Long> posting = postings.get(term);
+			posting.remove(id);
+			if (posting.isEmpty()) {
+				postings.remove(term);
+			}
+		}
+	}
+
+	static List<String> tokenize(String text) {
+		List<String> tokens = new ArrayList<>();
+		if (text == null) {
+			return tokens;
+		}
+
+		StringBuilder token = new StringBuilder();
+		String lowerCase = text.toLowerCase(Locale.ROOT);
+		for (int i = 0; i < lowerCase.length(); i++) {
+			char c = lowerCase.charAt(i);
+			if (Character.isLetterOrDigit(c)) {
+				token.append(c);
+			} else if (token.length() > 0) {
+				tokens.add(token.toString());
+				token.setLength(0);
+			}
+		}
+		if (token.length() > 0) {
+			tokens.add(token.toString());
+		}
+		return tokens;
+	}
+
+	static Set<String> terms(Collection<String> tokens) {
+		Set<String> terms = new HashSet<>();
+		for (String token : tokens) {
+			if (token.length() == 1) {
+				terms.add(token);
+				continue;
+			}
+			for (int i = 0; i < token.length() - 1; i++) {
+				terms.add(token.substring(i, i + 2));
+			}
+		}
+		return terms;
+	}
+
+	static Set<String> documentTerms(Collection<String> tokens) {
+		Set<String> terms = terms(tokens);
+		for (String token : tokens) {
+			for (int i = 0; i < token.length(); i++) {
+				terms.add(token.substring(i, i + 1));
+			}
+		}
+		return terms;
+	}
+
+	private static class Document {
+		private final AccountSearchResult result;
+		private final List<String> tags;
+		private final String text;
+		private final Set<String> terms;
+
+		private Document(AccountSearchResult result, List<String> tags) {
+			this.result = result;
+			this.tags = tags;
+
+			List<String> tokens = new ArrayList<>();
+			tokens.addAll(tokenize(result.getNickname()));
+			tokens.addAll(tokenize(result.getBio()));
+			tokens.addAll(tokenize(result.getOccupation()));
+			tokens.addAll(tokenize(result.getLocation()));
+			tags.forEach(tag -> tokens.addAll(tokenize(tag)));
+
+			this.text = String.join(" ", tokens);
+			this.terms = documentTerms(tokens);
+		}
+
+		private boolean containsAll(List<String> queryTokens) {
+			return queryTokens.stream().allMatch(text::contains);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package com.studyolle.search;
+
+import com.studyolle.account.AccountRepository;
+import com.studyolle.account.AccountSummary;
+import com.studyolle.account.AccountTagTitle;
+import com.studyolle.account.event.AccountCreated;
+import com.studyolle.account.event.NicknameChanged;
+import com.studyolle.account.event.ProfileUpdated;
+import com.studyolle.account.event.TagsUpdated;
+import com.studyolle.config.ReadYourWritesGuard;
+import com.studyolle.domain.Account;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 재색인 도중 들어온 계정 이벤트는 모아 두었다가 재색인이 끝난 뒤에 적용한다.
+ * 재색인이 읽은 이전 값이 더 최신 이벤트를 덮어쓰지 않도록 하기 위해서다.
+ */
+@Slf4j
+@Async
+@Component
+@RequiredArgsConstructor
+public class AccountSearchIndexer {
+	private static final int REBUILD_CHUNK_SIZE = 1000;
+
+	private final AccountRepository accountRepository;
+	private final AccountSearchIndex accountSearchIndex;
+	private final ReadYourWritesGuard readYourWritesGuard;
+
+	private final Object rebuildLock = new Object();
+	private List<Runnable> pending = new ArrayList<>();
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		try {
+			Map<Long, List<String>> tags = accountRepository.findAllTagTitles().stream()
+				.collect(Collectors.groupingBy(AccountTagTitle::getAccountId,
+					Collectors.mapping(AccountTagTitle::getTitle, Collectors.toList())));
+
+			Long after = 0L;
+			List<AccountSummary> chunk;
+			do {
+				chunk = accountRepository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+				for (AccountSummary summary : chunk) {
+					accountSearchIndex.index(summary.getId(), summary.getNickname(), summary.getBio(),
+						summary.getOccupation(), summary.getLocation(), tags.get(summary.getId()));
+					after = summary.getId();
+				}
+			} while (chunk.size() == REBUILD_CHUNK_SIZE);
+		} finally {
+			synchronized (rebuildLock) {
+				pending.forEach(Runnable::run);
+				pending = null;
+			}
+		}
+		log.info("account search index built with {} accounts", accountSearchIndex.size());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onAccountCreated(AccountCreated event) {
+		index(event.getAccount());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onProfileUpdated(ProfileUpdated event) {
+		index(event.getAccount());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onNicknameChanged(NicknameChanged event) {
+		index(event.getAccount());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onTagsUpdated(TagsUpdated event) {
+		Account account = event.getAccount();
+		List<String> tags = readYourWritesGuard.onPrimary(() -> accountRepository.findTagTitlesById(account.getId()));
+		apply(() -> indexAccount(account, tags));
+	}
+
+	private void index(Account account) {
+		apply(() -> indexAccount(account, accountSearchIndex.getTags(account.getId())));
+	}
+
+	private void apply(Runnable update) {
+		synchronized (rebuildLock) {
+			if (pending != null) {
+				pending.add(update);
+				return;
+			}
+		}
+		update.run();
+	}
+
+	private void indexAccount(Account account, List<String> tags) {
+		accountSearchIndex.index(account.getId(), account.getNickname(), account.getBio(), account.getOccupation(),
+			account.getLocation(), tags);
+	}
+}
@@ -0,0 +1,14 @@
+package com.studyolle.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class AccountSearchResult {
+	private final Long id;
+	private final String nickname;
+	private final String bio;
+	private final String occupation;
+	private final String location;
+}
@@ -1,8 +1,6 @@
 package com.studyolle.settings;
 
-import com.studyolle.domain.Account;
 import lombok.Data;
-import lombok.NoArgsConstructor;
 import org.hibernate.validator.constraints.Length;
 
 
@@ -16,6 +14,4 @@ public class Profile {
 	private String occupation;
 
 	private String location;
-
-	private String profileImage;
 }
@@ -0,0 +1,101 @@
+package com.studyolle.settings;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 프로필 이미지를 app.profile-image.location 디렉터리에 저장한다. 여러 노드가 같은 파일을 제공해야 하므로
+ * 공유 디렉터리를 명시적으로 지정해야 하며, 재시작 때 지워질 수 있는 임시 디렉터리는 쓸 수 없다.
+ * 형식은 클라이언트가 보낸 Content-Type 이 아니라 파일 앞부분의 시그니처로 판단한다.
+ */
+@Component
+public class ProfileImageStore {
+	public static final String URL_PREFIX = "/profile-images/";
+
+	private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+	private static final byte[] JPEG_SIGNATURE = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+
+	private final Path location;
+
+	public ProfileImageStore(@Value("${app.profile-image.location:}") String location) {
+		if (!StringUtils.hasText(location)) {
+			throw new IllegalStateException("app.profile-image.location 에 프로필 이미지를 저장할 디렉터리를 지정해야 합니다.");
+		}
+		this.location = Paths.get(location).toAbsolutePath().normalize();
+		Path tempDirectory = Paths.get(System.getProperty("java.io.tmpdir")).toAbsolutePath().normalize();
+		if (this.location.startsWith(tempDirectory)) {
+			throw new IllegalStateException("프로필 이미지는 임시 디렉터리(" + tempDirectory + ") 밖에 저장해야 합니다: " + location);
+		}
+	}
+
+	/**
+	 * PNG 나 JPEG 시그니처로 시작하지 않으면 저장하지 않고 null 을 돌려준다.
+	 */
+	public String store(Long accountId, InputStream image) throws IOException {
+		PushbackInputStream input = new PushbackInputStream(image, PNG_SIGNATURE.length);
+		byte[] header = new byte[PNG_SIGNATURE.length];
+		int read = input.readNBytes(header, 0, header.length);
+		String extension = extensionOf(header, read);
+		if (extension == null) {
+			return null;
+		}
+		input.unread(header, 0, read);
+
+		Files.createDirectories(location);
+		String fileName = accountId + "-" + UUID.randomUUID() + "." + extension;
+		Path temp = Files.createTempFile(location, "upload-", ".tmp");
+		try {
+			Files.copy(input, temp, StandardCopyOption.REPLACE_EXISTING);
+			Files.move(temp, location.resolve(fileName), StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+		return URL_PREFIX + fileName;
+	}
+
+	public void delete(String url) {
+		if (url == null || !url.startsWith(URL_PREFIX)) {
+			return;
+		}
+
+		Path file = location.resolve(url.substring(URL_PREFIX.length())).normalize();
+		if (!file.startsWith(location)) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public String getResourceLocation() {
+		return location.toUri().toString();
+	}
+
+	private String extensionOf(byte[] header, int length) {
+		if (startsWith(header, length, PNG_SIGNATURE)) {
+			return "png";
+		}
+		if (startsWith(header, length, JPEG_SIGNATURE)) {
+			return "jpg";
+		}
+		return null;
+	}
+
+	private boolean startsWith(byte[] header, int length, byte[] signature) {
+		return length >= signature.length
+			&& Arrays.equals(header, 0, signature.length, signature, 0, signature.length);
+	}
+}
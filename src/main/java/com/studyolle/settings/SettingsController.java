@@ -3,9 +3,14 @@ package com.studyolle.settings;
 import com.studyolle.account.AccountService;
 import com.studyolle.account.CurrentUser;
 import com.studyolle.domain.Account;
+import com.studyolle.tag.TagService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
@@ -13,6 +18,9 @@ import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 @Controller
@@ -21,6 +29,7 @@ public class SettingsController {
 
 	private final String SETTINGS_PROFILE_VIEW_NAME = "settings/profile";
 	private final String SETTINGS_PROFILE_URL = "/settings/profile";
+	private final String SETTINGS_PROFILE_IMAGE_URL = "/settings/profile/image";
 
 	private final String SETTINGS_PASSWORD_VIEW_NAME = "settings/password";
 	private final String SETTINGS_PASSWORD_VIEW_URL = "/settings/password";
@@ -31,9 +40,14 @@ public class SettingsController {
 	private final String SETTINGS_NICKNAME_VIEW_NAME = "settings/account";
 	private final String SETTINGS_NICKNAME_VIEW_URL = "/settings/account";
 
+	private final String SETTINGS_TAGS_VIEW_NAME = "settings/tags";
+	private final String SETTINGS_TAGS_VIEW_URL = "/settings/tags";
+
 	private final AccountService accountService;
 	private final ModelMapper modelMapper;
 	private final NicknameFormValidator nicknameFormValidator;
+	private final ProfileImageStore profileImageStore;
+	private final TagService tagService;
 
 	@InitBinder("passwordForm")
 	public void initPasswordFormBinder(WebDataBinder binder) {
@@ -65,6 +79,26 @@ public class SettingsController {
 		return "redirect:" + SETTINGS_PROFILE_URL;
 	}
 
+	@PostMapping(SETTINGS_PROFILE_IMAGE_URL)
+	@ResponseBody
+	public ResponseEntity<Map<String, String>> profileImageUpdate(@CurrentUser Account account,
+	                                                              @RequestParam MultipartFile image) throws IOException {
+		String profileImage = null;
+		if (!image.isEmpty()) {
+			try (InputStream inputStream = image.getInputStream()) {
+				profileImage = profileImageStore.store(account.getId(), inputStream);
+			}
+		}
+		if (profileImage == null) {
+			return ResponseEntity.badRequest().body(Map.of("error", "PNG 또는 JPEG 이미지만 사용할 수 있습니다."));
+		}
+
+		String previousImage = account.getProfileImage();
+		accountService.updateProfileImage(account, profileImage);
+		profileImageStore.delete(previousImage);
+		return ResponseEntity.ok(Map.of("profileImage", profileImage));
+	}
+
 	@GetMapping(SETTINGS_PASSWORD_VIEW_URL)
 	public String passwordUpdateForm(@CurrentUser Account account, Model model) {
 		model.addAttribute(account);
@@ -123,4 +157,26 @@ public class SettingsController {
 		attributes.addFlashAttribute("message", "닉네임 변경이 완료됐습니다.");
 		return "redirect:" + SETTINGS_NICKNAME_VIEW_URL;
 	}
+
+	@GetMapping(SETTINGS_TAGS_VIEW_URL)
+	public String tagsUpdateForm(@CurrentUser Account account, Model model) {
+		TagsForm tagsForm = new TagsForm();
+		tagsForm.setTags(String.join(", ", accountService.getTagTitles(account)));
+		model.addAttribute(account);
+		model.addAttribute(tagsForm);
+		return SETTINGS_TAGS_VIEW_NAME;
+	}
+
+	@PostMapping(SETTINGS_TAGS_VIEW_URL)
+	public String tagsUpdate(@CurrentUser Account account, @Valid TagsForm tagsForm, Errors errors, Model model,
+	                         RedirectAttributes attributes) {
+		if (errors.hasErrors()) {
+			model.addAttribute(account);
+			return SETTINGS_TAGS_VIEW_NAME;
+		}
+
+		accountService.updateTags(account, tagService.findOrCreate(tagsForm.getTitles()));
+		attributes.addFlashAttribute("message", "관심 주제 변경이 완료됐습니다.");
+		return "redirect:" + SETTINGS_TAGS_VIEW_URL;
+	}
 }
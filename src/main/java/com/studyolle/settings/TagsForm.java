@@ -0,0 +1,24 @@
+package com.studyolle.settings;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.validation.constraints.Pattern;
+import lombok.Data;
+
+@Data
+public class TagsForm {
+	@Pattern(regexp = "^\\s*([^,]{1,20}\\s*(,\\s*[^,]{1,20}\\s*)*)?$", message = "관심 주제는 쉼표로 구분하고 20자 이내로 입력하세요.")
+	private String tags;
+
+	public Set<String> getTitles() {
+		if (tags == null) {
+			return Set.of();
+		}
+		return Arrays.stream(tags.split(","))
+			.map(String::trim)
+			.filter(title -> !title.isEmpty())
+			.collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+}
@@ -0,0 +1,85 @@
+package com.studyolle.statistics;
+
+import com.studyolle.account.AccountRepository;
+import com.studyolle.account.event.AccountCreated;
+import com.studyolle.account.event.EmailVerified;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 회원 수와 가입 퍼널(가입, 이메일 인증, 로그인) 카운터를 이벤트로 갱신하고 주기적으로 DB 와 맞춘다.
+ * joinedAt, emailVerified 는 여기서 모아 쓰지 않는다. 인증 토큰을 소비하는 같은 UPDATE 문
+ * (AccountRepository.completeSignUp)에서 함께 기록해야 인증 직후 로그인한 사용자가 미인증으로 보이거나
+ * 종료 때 기록이 사라지지 않는다.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+public class SignUpStatistics {
+	private final AccountRepository accountRepository;
+
+	private final AtomicLong numberOfUser = new AtomicLong();
+	private final AtomicLong numberOfVerifiedUser = new AtomicLong();
+
+	private final AtomicLong signedUp = new AtomicLong();
+	private final AtomicLong verified = new AtomicLong();
+	private final AtomicLong loggedIn = new AtomicLong();
+
+	@Async
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onAccountCreated(AccountCreated event) {
+		numberOfUser.incrementAndGet();
+		signedUp.incrementAndGet();
+	}
+
+	@Async
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onEmailVerified(EmailVerified event) {
+		numberOfVerifiedUser.incrementAndGet();
+		verified.incrementAndGet();
+	}
+
+	@Async
+	@EventListener
+	public void onLogin(AuthenticationSuccessEvent event) {
+		loggedIn.incrementAndGet();
+	}
+
+	@Scheduled(fixedDelayString = "${app.statistics.reconcile-interval-millis:300000}")
+	public void reconcile() {
+		numberOfUser.set(accountRepository.count());
+		numberOfVerifiedUser.set(accountRepository.countByEmailVerified(true));
+		log.info("sign-up funnel: users={}, verifiedUsers={}, signedUp={}, verified={}, loggedIn={}",
+			numberOfUser.get(), numberOfVerifiedUser.get(), signedUp.get(), verified.get(), loggedIn.get());
+	}
+
+	public long getNumberOfUser() {
+		return numberOfUser.get();
+	}
+
+	public long getNumberOfVerifiedUser() {
+		return numberOfVerifiedUser.get();
+	}
+
+	public long getSignedUp() {
+		return signedUp.get();
+	}
+
+	public long getVerified() {
+		return verified.get();
+	}
+
+	public long getLoggedIn() {
+		return loggedIn.get();
+	}
+}
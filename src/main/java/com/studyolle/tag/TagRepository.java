@@ -0,0 +1,10 @@
+package com.studyolle.tag;
+
+import com.studyolle.domain.Tag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(readOnly = true)
+public interface TagRepository extends JpaRepository<Tag, Long> {
+	Tag findByTitle(String title);
+}
@@ -0,0 +1,36 @@
+package com.studyolle.tag;
+
+import com.studyolle.config.ReadYourWritesGuard;
+import com.studyolle.domain.Tag;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class TagService {
+	private final TagRepository tagRepository;
+	private final ReadYourWritesGuard readYourWritesGuard;
+
+	/**
+	 * 없는 주제는 새로 만든다. 같은 주제를 다른 요청이 먼저 만들었으면 그 주제를 primary 에서 다시 읽는다.
+	 */
+	public Set<Tag> findOrCreate(Collection<String> titles) {
+		Set<Tag> tags = new HashSet<>();
+		for (String title : titles) {
+			Tag tag = tagRepository.findByTitle(title);
+			if (tag == null) {
+				try {
+					tag = tagRepository.saveAndFlush(Tag.builder().title(title).build());
+				} catch (DataIntegrityViolationException e) {
+					tag = readYourWritesGuard.onPrimary(() -> tagRepository.findByTitle(title));
+				}
+			}
+			tags.add(tag);
+		}
+		return tags;
+	}
+}
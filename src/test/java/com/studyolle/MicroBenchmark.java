@@ -0,0 +1,74 @@
+package com.studyolle;
+
+import java.lang.management.ManagementFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class MicroBenchmark {
+	private static final Logger log = LoggerFactory.getLogger(MicroBenchmark.class);
+	private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+		(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	public static Result run(String name, int warmupIterations, int iterations, Task task) throws Exception {
+		for (int i = 0; i < warmupIterations; i++) {
+			task.run();
+		}
+
+		long threadId = Thread.currentThread().getId();
+		long allocatedBefore = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+		long startedAt = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			task.run();
+		}
+		long elapsedNanos = System.nanoTime() - startedAt;
+		long allocatedBytes = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+		Result result = new Result(name, iterations, elapsedNanos, allocatedBytes);
+		report(result.toString());
+		return result;
+	}
+
+	/**
+	 * 벤치마크 결과는 모두 이 로거로 남겨 실행 로그에서 [benchmark] 로 찾을 수 있게 한다.
+	 */
+	public static void report(String format, Object... args) {
+		log.info("[benchmark] " + String.format(format, args));
+	}
+
+	@FunctionalInterface
+	public interface Task {
+		void run() throws Exception;
+	}
+
+	public static class Result {
+		private final String name;
+		private final long operations;
+		private final long elapsedNanos;
+		private final long allocatedBytes;
+
+		public Result(String name, long operations, long elapsedNanos, long allocatedBytes) {
+			this.name = name;
+			this.operations = operations;
+			this.elapsedNanos = elapsedNanos;
+			this.allocatedBytes = allocatedBytes;
+		}
+
+		public double getNanosPerOperation() {
+			return (double) elapsedNanos / operations;
+		}
+
+		public double getOperationsPerSecond() {
+			return operations * 1_000_000_000d / elapsedNanos;
+		}
+
+		public long getBytesPerOperation() {
+			return allocatedBytes / operations;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s: %.1f us/op, %.0f ops/s, %d bytes/op",
+				name, getNanosPerOperation() / 1000, getOperationsPerSecond(), getBytesPerOperation());
+		}
+	}
+}
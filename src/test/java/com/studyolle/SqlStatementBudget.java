@@ -0,0 +1,23 @@
+package com.studyolle;
+
+import com.studyolle.config.SqlStatistics;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * MockMvc 요청 하나가 실행한 SQL 문 수의 상한을 검사한다. 쿼리가 늘어나는 회귀(N+1 등)를 테스트에서 잡기 위해 쓴다.
+ */
+public class SqlStatementBudget {
+	public static ResultMatcher maxStatements(int budget) {
+		return result -> {
+			SqlStatistics statistics = (SqlStatistics) result.getRequest().getAttribute(SqlStatistics.REQUEST_ATTRIBUTE);
+			if (statistics == null) {
+				throw new AssertionError("SQL 통계가 없습니다. SqlStatisticsFilter 가 등록됐는지 확인하세요.");
+			}
+			if (statistics.getStatements() > budget) {
+				throw new AssertionError(String.format("%s %s 에서 SQL 문 %d개를 실행했습니다. (허용: %d개)",
+					result.getRequest().getMethod(), result.getRequest().getRequestURI(), statistics.getStatements(),
+					budget));
+			}
+		};
+	}
+}
@@ -1,10 +1,13 @@
 package com.studyolle.account;
 
+import static com.studyolle.SqlStatementBudget.maxStatements;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
@@ -13,12 +16,14 @@ import static org.springframework.security.test.web.servlet.response.SecurityMoc
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
 import com.studyolle.domain.Account;
 import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,13 +31,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional
 @SpringBootTest
+@ActiveProfiles("test")
 @AutoConfigureMockMvc
 class AccountControllerTest {
 
@@ -58,6 +66,11 @@ class AccountControllerTest {
         accountRepository.save(account);
     }
 
+    @AfterEach
+    void tearDown() {
+        accountRepository.deleteAll();
+    }
+
     @DisplayName("회원가입 화면 보이는지 테스트")
     @Test
     public void signUpForm() throws Exception {
@@ -86,6 +99,7 @@ class AccountControllerTest {
 
     @DisplayName("회원가입 처리 - 입력값 정상")
     @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void signUpFormWithCorrectInput() throws Exception {
         mockMvc.perform(post("/sign-up")
             .param("nickname", "jinhyeok")
@@ -102,7 +116,7 @@ class AccountControllerTest {
         assertNotNull(account.getEmailCheckToken());
         assertNotNull(account);
         assertNotEquals(account.getPassword(), "12345678");
-        verify(javaMailSender).send(any(SimpleMailMessage.class));
+        verify(javaMailSender, timeout(1000)).send(any(MimeMessagePreparator.class));
     }
 
     @DisplayName("인증 메일 확인 - 입력값 오류")
@@ -121,6 +135,7 @@ class AccountControllerTest {
 
     @DisplayName("인증 메일 확인 - 입력값 정상")
     @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void checkEmailTokenWithCorrectInput() throws Exception {
         mockMvc.perform(get("/check-email-token")
             .param("token", account.getEmailCheckToken())
@@ -132,6 +147,61 @@ class AccountControllerTest {
             .andExpect(model().attributeExists("nickname"))
             .andExpect(model().attributeExists("numberOfUser"))
             .andExpect(authenticated())
+            .andExpect(maxStatements(4))
+        ;
+    }
+
+    @DisplayName("인증 메일 확인 - 캐시된 공개 프로필에도 가입일이 표시됨")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void checkEmailTokenRefreshesPublicProfile() throws Exception {
+        mockMvc.perform(get("/profile/" + account.getNickname()))
+            .andExpect(status().isOk())
+            .andExpect(content().string(not(containsString("월 가입"))));
+
+        mockMvc.perform(get("/check-email-token")
+            .param("token", account.getEmailCheckToken())
+            .param("email", account.getEmail())
+        )
+            .andExpect(model().attributeDoesNotExist("error"));
+
+        mockMvc.perform(get("/profile/" + account.getNickname()))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("월 가입")));
+    }
+
+    @DisplayName("인증 메일 확인 - 이미 사용한 토큰")
+    @Test
+    public void checkEmailTokenReused() throws Exception {
+        String token = account.getEmailCheckToken();
+        mockMvc.perform(get("/check-email-token")
+            .param("token", token)
+            .param("email", account.getEmail())
+        )
+            .andExpect(model().attributeDoesNotExist("error"));
+
+        mockMvc.perform(get("/check-email-token")
+            .param("token", token)
+            .param("email", account.getEmail())
+        )
+            .andExpect(status().isOk())
+            .andExpect(model().attributeExists("error"))
+        ;
+    }
+
+    @DisplayName("인증 메일 확인 - 만료된 토큰")
+    @Test
+    public void checkEmailTokenExpired() throws Exception {
+        account.setEmailCheckTokenCreatedAt(LocalDateTime.now().minusHours(25L));
+        accountRepository.save(account);
+
+        mockMvc.perform(get("/check-email-token")
+            .param("token", account.getEmailCheckToken())
+            .param("email", account.getEmail())
+        )
+            .andExpect(status().isOk())
+            .andExpect(model().attributeExists("error"))
+            .andExpect(unauthenticated())
         ;
     }
 
@@ -178,7 +248,7 @@ class AccountControllerTest {
             .andExpect(view().name("redirect:/"))
         ;
 
-        verify(javaMailSender, times(1)).send(any(SimpleMailMessage.class));
+        verify(javaMailSender, timeout(1000).times(1)).send(any(MimeMessagePreparator.class));
     }
 
     @Test
@@ -196,7 +266,7 @@ class AccountControllerTest {
             .andExpect(model().attributeExists("error"))
         ;
 
-        verify(javaMailSender, never()).send(any(SimpleMailMessage.class));
+        verify(javaMailSender, never()).send(any(MimeMessagePreparator.class));
     }
 
     @Test
@@ -223,6 +293,22 @@ class AccountControllerTest {
             .andExpect(status().isOk())
             .andExpect(view().name("account/profile"))
             .andExpect(model().attribute("isOwner", false))
-            .andExpect(model().attribute("account", account));
+            .andExpect(model().attributeExists("publicProfile"))
+            .andExpect(model().attributeDoesNotExist("account"));
+    }
+
+    @Test
+    @DisplayName("프로필 수정 후 캐시된 공개 프로필 갱신")
+    void profileCacheRefreshedAfterUpdate() throws Exception {
+        mockMvc.perform(get("/profile/nickname"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(not(containsString("new bio"))));
+
+        account.setBio("new bio");
+        accountRepository.saveAndFlush(account);
+
+        mockMvc.perform(get("/profile/nickname"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("new bio")));
     }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.studyolle.account;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AccountExportStreamerTest {
+
+	@DisplayName("마지막 id 를 커서로 다음 묶음을 읽고 모자란 묶음에서 멈춤")
+	@Test
+	void streamByKeyset() throws Exception {
+		List<Long> ids = LongStream.rangeClosed(1, 5).boxed().collect(Collectors.toList());
+		List<Long> cursors = new ArrayList<>();
+		List<List<Long>> chunks = new ArrayList<>();
+
+		new AccountExportStreamer(2).stream((after, pageable) -> {
+			cursors.add(after);
+			return ids.stream()
+				.filter(id -> id > after)
+				.limit(pageable.getPageSize())
+				.collect(Collectors.toList());
+		}, id -> id, chunks::add);
+
+		assertThat(cursors).containsExactly(0L, 2L, 4L);
+		assertThat(chunks).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+	}
+}
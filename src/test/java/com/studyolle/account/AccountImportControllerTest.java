@@ -0,0 +1,76 @@
+package com.studyolle.account;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class AccountImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private JavaMailSender javaMailSender;
+
+    private MockMultipartFile csv() {
+        return new MockMultipartFile("file", "accounts.csv", "text/csv",
+            "email,nickname,password\nimported@email.com,imported,password\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @DisplayName("관리자는 계정을 일괄 가입시킬 수 있음")
+    @Test
+    void importAccounts() throws Exception {
+        mockMvc.perform(multipart("/accounts/import")
+                .file(csv())
+                .with(csrf())
+                .with(user("admin").roles("USER", "ADMIN")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(1));
+    }
+
+    @DisplayName("관리자가 아니면 일괄 가입시킬 수 없음")
+    @Test
+    void importAccountsWithoutAdminRole() throws Exception {
+        mockMvc.perform(multipart("/accounts/import")
+                .file(csv())
+                .with(csrf())
+                .with(user("member")))
+            .andExpect(status().isForbidden());
+    }
+
+    @DisplayName("관리자는 계정 CSV 를 내려받을 수 있음")
+    @Test
+    void exportCsv() throws Exception {
+        mockMvc.perform(get("/accounts/export.csv").with(user("admin").roles("USER", "ADMIN")))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("text/csv"));
+    }
+
+    @DisplayName("관리자가 아니면 계정 CSV 를 내려받을 수 없음")
+    @Test
+    void exportCsvWithoutAdminRole() throws Exception {
+        mockMvc.perform(get("/accounts/export.csv").with(user("member")))
+            .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,111 @@
+package com.studyolle.account;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.studyolle.domain.Account;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@SpringBootTest
+@ActiveProfiles("test")
+class AccountImportServiceTest {
+
+    @Autowired
+    private AccountImportService accountImportService;
+
+    @SpyBean
+    private AccountRepository accountRepository;
+
+    @MockBean
+    private JavaMailSender javaMailSender;
+
+    @MockBean
+    private AccountMailer accountMailer;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository.save(Account.builder()
+            .email("existing@email.com")
+            .nickname("existing")
+            .password("password")
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountRepository.deleteAll();
+    }
+
+    @DisplayName("CSV 일괄 가입 - 정상 행만 저장하고 오류 행은 보고")
+    @Test
+    void importCsv() throws Exception {
+        String csv = "email,nickname,password\n"
+            + "first@email.com,first,\"pass,word\"\n"
+            + "not-an-email,second,password\n"
+            + "first@email.com,third,password\n"
+            + "existing@email.com,fourth,password\n"
+            + "fifth@email.com,fifth,password\n";
+
+        AccountImportReport report = accountImportService.importAccounts(new BufferedReader(new StringReader(csv)), false, false);
+
+        assertThat(report.getTotal()).isEqualTo(5);
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(AccountImportReport.RowError::getLine).containsExactly(3, 4, 5);
+        assertThat(accountRepository.findByNickname("first")).isNotNull();
+        assertThat(accountRepository.findByNickname("fifth").getEmailCheckToken()).isNotNull();
+        assertThat(accountRepository.findByNickname("first").getPassword()).isNotEqualTo("pass,word");
+    }
+
+    @DisplayName("JSONL 일괄 가입")
+    @Test
+    void importJsonLines() throws Exception {
+        String jsonLines = "{\"email\":\"json@email.com\",\"nickname\":\"json\",\"password\":\"password\"}\n"
+            + "{broken\n";
+
+        AccountImportReport report = accountImportService.importAccounts(new BufferedReader(new StringReader(jsonLines)), true, false);
+
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getErrors()).extracting(AccountImportReport.RowError::getLine).containsExactly(2);
+        assertThat(accountRepository.existsByEmail("json@email.com")).isTrue();
+    }
+
+    @DisplayName("검사 뒤 동시에 가입한 계정과 겹친 행은 오류로 보고하고 나머지는 저장")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void importWithConcurrentSignUp() throws Exception {
+        doReturn(Set.of()).when(accountRepository).findEmailsIn(anyCollection());
+        String csv = "email,nickname,password\n"
+            + "first@email.com,first,password\n"
+            + "existing@email.com,second,password\n"
+            + "third@email.com,third,password\n";
+
+        AccountImportReport report = accountImportService.importAccounts(new BufferedReader(new StringReader(csv)), false, false);
+
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(AccountImportReport.RowError::getLine).containsExactly(3);
+        assertThat(accountRepository.existsByEmail("first@email.com")).isTrue();
+        assertThat(accountRepository.existsByEmail("third@email.com")).isTrue();
+        assertThat(accountRepository.findByNickname("second")).isNull();
+        verify(accountMailer, after(500).never()).sendSignUpConfirmEmail(any());
+    }
+}
@@ -0,0 +1,84 @@
+package com.studyolle.account;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.studyolle.domain.Account;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class AccountListControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    Long firstId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            Account account = accountRepository.save(Account.builder()
+                .email("member" + i + "@email.com")
+                .nickname("member" + i)
+                .password("password")
+                .profileImage("/profile-images/" + i + ".png")
+                .build());
+            if (firstId == null) {
+                firstId = account.getId();
+            }
+        }
+    }
+
+    @DisplayName("커서 이후의 계정을 id 순서로 조회")
+    @Test
+    void accountsAfterCursor() throws Exception {
+        mockMvc.perform(get("/accounts")
+                .param("after", String.valueOf(firstId - 1))
+                .param("size", "2")
+                .with(user("admin").roles("USER", "ADMIN")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(2))
+            .andExpect(jsonPath("$.content[0].nickname").value("member0"))
+            .andExpect(jsonPath("$.content[1].nickname").value("member1"))
+            .andExpect(jsonPath("$.content[0].profileImage").doesNotExist())
+            .andExpect(jsonPath("$.next").isNumber());
+    }
+
+    @DisplayName("마지막 페이지에는 다음 커서가 없음")
+    @Test
+    void lastPage() throws Exception {
+        mockMvc.perform(get("/accounts")
+                .param("after", String.valueOf(firstId))
+                .param("size", "10")
+                .with(user("admin").roles("USER", "ADMIN")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(2))
+            .andExpect(jsonPath("$.content[0].nickname").value("member1"))
+            .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @DisplayName("관리자가 아니면 계정 목록과 내보내기를 조회할 수 없음")
+    @Test
+    void accountsWithoutAdminRole() throws Exception {
+        mockMvc.perform(get("/accounts").with(user("member0")))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(get("/accounts/export").with(user("member0")))
+            .andExpect(status().isForbidden());
+    }
+}
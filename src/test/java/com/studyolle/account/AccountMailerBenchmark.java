@@ -0,0 +1,35 @@
+package com.studyolle.account;
+
+import com.studyolle.MicroBenchmark;
+import com.studyolle.domain.Account;
+import com.studyolle.mail.ConsoleMailSender;
+import com.studyolle.mail.MailScheduler;
+import com.studyolle.mail.MailTemplateRenderer;
+import java.io.OutputStream;
+import javax.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AccountMailerBenchmark {
+
+	@Test
+	void renderSignUpConfirmEmail() throws Exception {
+		ConsoleMailSender mailSender = new ConsoleMailSender();
+		AccountMailer accountMailer = new AccountMailer(new MailScheduler(mailSender, 10, "", 1, 20), new MailTemplateRenderer(),
+			"https://studyolle.com", "no-reply@studyolle.com");
+		Account account = Account.builder()
+			.nickname("nickname")
+			.email("email@email.com")
+			.build();
+		account.generateEmailCheckToken();
+
+		MicroBenchmark.run("render sign-up confirm mail", 2_000, 20_000, () -> {
+			MimeMessage mimeMessage = mailSender.createMimeMessage();
+			accountMailer.prepare(account, "스터디올래, 회원가입 인증!", "/check-email-token", "메시지", "이메일 인증하기")
+				.prepare(mimeMessage);
+			mimeMessage.saveChanges();
+			mimeMessage.writeTo(OutputStream.nullOutputStream());
+		});
+	}
+}
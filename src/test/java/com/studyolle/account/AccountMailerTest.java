@@ -0,0 +1,74 @@
+package com.studyolle.account;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.studyolle.domain.Account;
+import com.studyolle.mail.ConsoleMailSender;
+import com.studyolle.mail.MailScheduler;
+import com.studyolle.mail.MailTemplateRenderer;
+import java.util.ArrayList;
+import java.util.List;
+import javax.mail.Multipart;
+import javax.mail.Part;
+import javax.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AccountMailerTest {
+	ConsoleMailSender mailSender = new ConsoleMailSender();
+	MailScheduler mailScheduler = new MailScheduler(mailSender, 10, "", 1, 20);
+	AccountMailer accountMailer = new AccountMailer(mailScheduler, new MailTemplateRenderer(),
+		"https://studyolle.com", "no-reply@studyolle.com");
+
+	Account account;
+
+	@BeforeEach
+	void setUp() {
+		account = Account.builder()
+			.nickname("nickname")
+			.email("user+tag@email.com")
+			.build();
+		account.generateEmailCheckToken();
+		mailScheduler.start();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		mailScheduler.stop();
+	}
+
+	@DisplayName("가입 인증 메일은 HTML 과 텍스트 본문에 절대 URL 링크를 담음")
+	@Test
+	void signUpConfirmEmail() throws Exception {
+		accountMailer.sendSignUpConfirmEmail(account);
+		mailScheduler.stop();
+
+		List<MimeMessage> messages = mailSender.getSentMessages();
+		assertThat(messages).hasSize(1);
+		MimeMessage message = messages.get(0);
+		assertThat(message.getSubject()).isEqualTo("스터디올래, 회원가입 인증!");
+		assertThat(message.getAllRecipients()[0].toString()).isEqualTo("user+tag@email.com");
+
+		List<String> bodies = new ArrayList<>();
+		collectBodies(message, bodies);
+		String link = "https://studyolle.com/check-email-token?token=" + account.getEmailCheckToken()
+			+ "&email=user%2Btag%40email.com";
+		assertThat(bodies).hasSize(2);
+		assertThat(bodies).allMatch(body -> body.contains("nickname"));
+		assertThat(bodies.get(0)).contains(link);
+		assertThat(bodies.get(1)).contains("href=\"" + link.replace("&", "&amp;") + "\"");
+	}
+
+	private void collectBodies(Part part, List<String> bodies) throws Exception {
+		if (part.isMimeType("multipart/*")) {
+			Multipart multipart = (Multipart) part.getContent();
+			for (int i = 0; i < multipart.getCount(); i++) {
+				collectBodies(multipart.getBodyPart(i), bodies);
+			}
+		} else if (part.isMimeType("text/*")) {
+			bodies.add((String) part.getContent());
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.studyolle.account;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.studyolle.domain.Account;
+import java.util.Optional;
+import javax.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+class SignedRememberMeServicesTest {
+	AccountRepository accountRepository = mock(AccountRepository.class);
+	SignedRememberMeServices rememberMeServices =
+		new SignedRememberMeServices("secret", mock(UserDetailsService.class), accountRepository);
+
+	Account account;
+
+	@BeforeEach
+	void setUp() {
+		account = Account.builder()
+			.id(1L)
+			.nickname("nickname")
+			.email("email@email.com")
+			.password("password")
+			.build();
+		given(accountRepository.findById(1L)).willReturn(Optional.of(account));
+	}
+
+	@DisplayName("서명된 쿠키로 자동 로그인")
+	@Test
+	void autoLogin() {
+		Cookie cookie = issueCookie();
+
+		Authentication authentication = autoLogin(cookie);
+
+		assertThat(authentication).isNotNull();
+		assertThat(((UserAccount) authentication.getPrincipal()).getAccount()).isSameAs(account);
+	}
+
+	@DisplayName("비밀번호를 바꾸면 이전 쿠키는 무효")
+	@Test
+	void revokedByCredentialVersion() {
+		Cookie cookie = issueCookie();
+		account.setCredentialVersion(account.getCredentialVersion() + 1);
+
+		assertThat(autoLogin(cookie)).isNull();
+	}
+
+	@DisplayName("다른 키로 서명한 쿠키는 무효")
+	@Test
+	void signedWithOtherKey() {
+		SignedRememberMeServices other =
+			new SignedRememberMeServices("other-secret", mock(UserDetailsService.class), accountRepository);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		other.loginSuccess(rememberMeRequest(), response, authentication());
+
+		assertThat(autoLogin(response.getCookie("remember-me"))).isNull();
+	}
+
+	private Cookie issueCookie() {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		rememberMeServices.loginSuccess(rememberMeRequest(), response, authentication());
+		Cookie cookie = response.getCookie("remember-me");
+		assertThat(cookie).isNotNull();
+		return cookie;
+	}
+
+	private Authentication autoLogin(Cookie cookie) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setCookies(cookie);
+		return rememberMeServices.autoLogin(request, new MockHttpServletResponse());
+	}
+
+	private MockHttpServletRequest rememberMeRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setParameter("remember-me", "true");
+		return request;
+	}
+
+	private Authentication authentication() {
+		UserAccount userAccount = new UserAccount(account);
+		return new UsernamePasswordAuthenticationToken(userAccount, account.getPassword(), userAccount.getAuthorities());
+	}
+}
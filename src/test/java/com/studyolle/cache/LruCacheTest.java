@@ -0,0 +1,25 @@
+package com.studyolle.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+
+	@DisplayName("최대 크기를 넘으면 가장 오래 쓰지 않은 항목을 버림")
+	@Test
+	void evictLeastRecentlyUsed() {
+		LruCache<Long, String> cache = new LruCache<>(2);
+		cache.put(1L, "one");
+		cache.put(2L, "two");
+		cache.get(1L);
+
+		cache.put(3L, "three");
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get(1L)).isEqualTo("one");
+		assertThat(cache.get(2L)).isNull();
+		assertThat(cache.get(3L)).isEqualTo("three");
+	}
+}
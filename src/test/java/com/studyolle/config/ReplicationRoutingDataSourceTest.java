@@ -0,0 +1,93 @@
+package com.studyolle.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicationRoutingDataSourceTest {
+	EmbeddedDatabase primary;
+	EmbeddedDatabase replica;
+	DataSource dataSource;
+	TransactionTemplate transactionTemplate;
+	ReadYourWritesGuard readYourWritesGuard = new ReadYourWritesGuard(5000);
+
+	@BeforeEach
+	void setUp() {
+		primary = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).setName("primary").build();
+		replica = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).setName("replica").build();
+
+		Map<Object, Object> targetDataSources = new HashMap<>();
+		targetDataSources.put(ReplicationRoutingDataSource.PRIMARY, primary);
+		targetDataSources.put(ReplicationRoutingDataSource.REPLICA, replica);
+		ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource();
+		routingDataSource.setTargetDataSources(targetDataSources);
+		routingDataSource.setDefaultTargetDataSource(primary);
+		routingDataSource.afterPropertiesSet();
+
+		dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+		transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+	}
+
+	@AfterEach
+	void tearDown() {
+		readYourWritesGuard.clear();
+		primary.shutdown();
+		replica.shutdown();
+	}
+
+	@Test
+	@DisplayName("읽기 전용 트랜잭션은 레플리카로 라우팅")
+	void readOnlyTransactionUsesReplica() {
+		transactionTemplate.setReadOnly(true);
+		assertThat(transactionTemplate.execute(status -> currentUrl())).contains("replica");
+	}
+
+	@Test
+	@DisplayName("쓰기 트랜잭션은 primary 로 라우팅")
+	void writeTransactionUsesPrimary() {
+		assertThat(transactionTemplate.execute(status -> currentUrl())).contains("primary");
+	}
+
+	@Test
+	@DisplayName("쓰기 직후 요청의 읽기 전용 트랜잭션도 primary 로 라우팅")
+	void readYourWrites() {
+		readYourWritesGuard.markWritten(1L);
+		readYourWritesGuard.apply(1L);
+		transactionTemplate.setReadOnly(true);
+		assertThat(transactionTemplate.execute(status -> currentUrl())).contains("primary");
+	}
+
+	@Test
+	@DisplayName("primary 강제는 작업이 끝나면 풀리고 스레드에 남지 않음")
+	void onPrimaryIsScoped() {
+		transactionTemplate.setReadOnly(true);
+		assertThat(readYourWritesGuard.onPrimary(() -> transactionTemplate.execute(status -> currentUrl())))
+			.contains("primary");
+		assertThat(ReadYourWritesGuard.isPrimaryForced()).isFalse();
+		assertThat(transactionTemplate.execute(status -> currentUrl())).contains("replica");
+	}
+
+	private String currentUrl() {
+		Connection connection = DataSourceUtils.getConnection(dataSource);
+		try {
+			return connection.getMetaData().getURL();
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.studyolle.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@SpringBootTest(properties = {
+    "spring.jpa.properties.studyolle.id.allocation_size=25",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.studyolle.domain.SequenceCallCounter"
+})
+@ActiveProfiles("test")
+class PooledSequenceGeneratorTest {
+    static final int INSERTS = 100;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        SequenceCallCounter.calls.set(0);
+    }
+
+    @DisplayName("계정 id 는 allocation size 마다 한 번만 시퀀스를 호출")
+    @Test
+    void accountIds() {
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < INSERTS; i++) {
+            Account account = Account.builder()
+                .email("account" + i + "@email.com")
+                .nickname("account" + i)
+                .password("password")
+                .build();
+            entityManager.persist(account);
+            ids.add(account.getId());
+        }
+        entityManager.flush();
+
+        assertThat(ids).hasSize(INSERTS);
+        assertThat(SequenceCallCounter.calls.get()).isLessThanOrEqualTo(INSERTS / 25 + 1);
+    }
+
+    @DisplayName("관심 주제 id 는 allocation size 마다 한 번만 시퀀스를 호출")
+    @Test
+    void tagIds() {
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < INSERTS; i++) {
+            Tag tag = Tag.builder().title("tag" + i).build();
+            entityManager.persist(tag);
+            ids.add(tag.getId());
+        }
+        entityManager.flush();
+
+        assertThat(ids).hasSize(INSERTS);
+        assertThat(SequenceCallCounter.calls.get()).isLessThanOrEqualTo(INSERTS / 25 + 1);
+    }
+}
@@ -0,0 +1,16 @@
+package com.studyolle.domain;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class SequenceCallCounter implements StatementInspector {
+	static final AtomicInteger calls = new AtomicInteger();
+
+	@Override
+	public String inspect(String sql) {
+		if (sql.toLowerCase().contains("next value for")) {
+			calls.incrementAndGet();
+		}
+		return sql;
+	}
+}
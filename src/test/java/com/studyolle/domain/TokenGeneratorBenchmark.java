@@ -0,0 +1,55 @@
+package com.studyolle.domain;
+
+import com.studyolle.MicroBenchmark;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TokenGeneratorBenchmark {
+	static final int THREADS = Runtime.getRuntime().availableProcessors() * 4;
+	static final int TOKENS_PER_THREAD = 50_000;
+
+	@Test
+	void concurrentTokenGeneration() throws Exception {
+		run("UUID.randomUUID", () -> UUID.randomUUID().toString());
+		run("TokenGenerator", TokenGenerator::generate);
+
+		run("UUID.randomUUID", () -> UUID.randomUUID().toString());
+		run("TokenGenerator", TokenGenerator::generate);
+	}
+
+	private void run(String name, Supplier<String> generator) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				for (int j = 0; j < TOKENS_PER_THREAD; j++) {
+					generator.get();
+				}
+				return null;
+			}));
+		}
+
+		long startedAt = System.nanoTime();
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		long elapsedNanos = System.nanoTime() - startedAt;
+		executor.shutdown();
+
+		long operations = (long) THREADS * TOKENS_PER_THREAD;
+		MicroBenchmark.report("%s with %d threads: %.0f tokens/s, %.1f ns/token",
+			name, THREADS, operations * 1_000_000_000d / elapsedNanos, (double) elapsedNanos / operations);
+	}
+}
@@ -0,0 +1,30 @@
+package com.studyolle.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenGeneratorTest {
+
+	@DisplayName("토큰은 URL 에 그대로 쓸 수 있는 22자 문자열")
+	@Test
+	void urlSafeToken() {
+		String token = TokenGenerator.generate();
+
+		assertThat(token).hasSize(22).matches("[A-Za-z0-9_-]+");
+	}
+
+	@DisplayName("토큰은 매번 달라야 함")
+	@Test
+	void uniqueTokens() {
+		Set<String> tokens = new HashSet<>();
+		for (int i = 0; i < 10_000; i++) {
+			tokens.add(TokenGenerator.generate());
+		}
+
+		assertThat(tokens).hasSize(10_000);
+	}
+}
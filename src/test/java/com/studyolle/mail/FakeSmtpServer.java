@@ -0,0 +1,99 @@
+package com.studyolle.mail;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 최소 SMTP 서버. 받은 연결 수와 메시지 수만 센다.
+ */
+class FakeSmtpServer implements AutoCloseable {
+	private final ServerSocket serverSocket;
+	private final AtomicInteger connections = new AtomicInteger();
+	private final AtomicInteger messages = new AtomicInteger();
+	private volatile boolean dropAfterMessage;
+
+	FakeSmtpServer() throws IOException {
+		serverSocket = new ServerSocket(0);
+		Thread acceptor = new Thread(this::accept, "fake-smtp");
+		acceptor.setDaemon(true);
+		acceptor.start();
+	}
+
+	int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	int getConnections() {
+		return connections.get();
+	}
+
+	int getMessages() {
+		return messages.get();
+	}
+
+	void dropAfterMessage() {
+		dropAfterMessage = true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		serverSocket.close();
+	}
+
+	private void accept() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Socket socket = serverSocket.accept();
+				connections.incrementAndGet();
+				Thread session = new Thread(() -> handle(socket), "fake-smtp-session");
+				session.setDaemon(true);
+				session.start();
+			} catch (IOException e) {
+				return;
+			}
+		}
+	}
+
+	private void handle(Socket socket) {
+		try (socket) {
+			BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+			OutputStream out = socket.getOutputStream();
+			reply(out, "220 localhost");
+
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String command = line.length() < 4 ? line.toUpperCase() : line.substring(0, 4).toUpperCase();
+				switch (command) {
+					case "DATA":
+						reply(out, "354 end with <CRLF>.<CRLF>");
+						String data;
+						while ((data = reader.readLine()) != null && !data.equals(".")) {
+						}
+						messages.incrementAndGet();
+						reply(out, "250 queued");
+						if (dropAfterMessage) {
+							return;
+						}
+						break;
+					case "QUIT":
+						reply(out, "221 bye");
+						return;
+					default:
+						reply(out, "250 OK");
+				}
+			}
+		} catch (IOException ignored) {
+		}
+	}
+
+	private void reply(OutputStream out, String line) throws IOException {
+		out.write((line + "\r\n").getBytes(StandardCharsets.US_ASCII));
+		out.flush();
+	}
+}
@@ -0,0 +1,142 @@
+package com.studyolle.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+
+class MailSchedulerTest {
+	JavaMailSender javaMailSender = mock(JavaMailSender.class);
+	AtomicLong nanoTime = new AtomicLong();
+	MailScheduler mailScheduler = new MailScheduler(javaMailSender, 100, "slow.com=1", 2, 20, nanoTime::get);
+
+	@BeforeEach
+	void setUp() {
+		mailScheduler.start();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		mailScheduler.stop();
+	}
+
+	@DisplayName("한 도메인이 밀려 있어도 다른 도메인 메일은 바로 발송")
+	@Test
+	void otherDomainsAreNotDelayed() {
+		for (int i = 0; i < 10; i++) {
+			mailScheduler.submit("user" + i + "@slow.com", mimeMessage -> { });
+		}
+		MimeMessagePreparator fast = mimeMessage -> { };
+		mailScheduler.submit("user@fast.com", fast);
+
+		verify(javaMailSender, timeout(500)).send(fast);
+		assertThat(mailScheduler.getQueueDepths().get("slow.com")).isEqualTo(9);
+	}
+
+	@DisplayName("도메인별 발송량 제한")
+	@Test
+	void rateLimitPerDomain() {
+		List<MimeMessagePreparator> preparators = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			MimeMessagePreparator preparator = mimeMessage -> { };
+			preparators.add(preparator);
+			mailScheduler.submit("user" + i + "@SLOW.com", preparator);
+		}
+
+		verify(javaMailSender, timeout(500)).send(preparators.get(0));
+		assertThat(mailScheduler.getQueueDepths().get("slow.com")).isEqualTo(2);
+		verify(javaMailSender, never()).send(preparators.get(1));
+	}
+
+	@DisplayName("토큰 버킷은 초당 발송량만큼 한도를 채움")
+	@Test
+	void domainQueueRefillsAtRate() {
+		long second = TimeUnit.SECONDS.toNanos(1);
+		MailScheduler.DomainQueue queue = new MailScheduler.DomainQueue(2, 0);
+
+		assertThat(queue.tryAcquire(0)).isTrue();
+		assertThat(queue.tryAcquire(0)).isTrue();
+		assertThat(queue.tryAcquire(0)).isFalse();
+		assertThat(queue.nanosUntilPermit(0)).isEqualTo(second / 2);
+		assertThat(queue.tryAcquire(second / 2 - 1)).isFalse();
+		assertThat(queue.tryAcquire(second / 2)).isTrue();
+		assertThat(queue.tryAcquire(10 * second)).isTrue();
+		assertThat(queue.tryAcquire(10 * second)).isTrue();
+		assertThat(queue.tryAcquire(10 * second)).isFalse();
+	}
+
+	@DisplayName("종료할 때 큐에 남은 메일을 보낸 뒤 종료")
+	@Test
+	void stopSendsQueuedMails() throws Exception {
+		RecordingMailSender mailSender = new RecordingMailSender();
+		MailScheduler mailScheduler = new MailScheduler(mailSender, 100, "slow.com=1", 2, 20);
+		mailScheduler.start();
+		for (int i = 0; i < 3; i++) {
+			mailScheduler.submit("user" + i + "@slow.com", mimeMessage -> mimeMessage.setText("body"));
+		}
+
+		mailScheduler.stop();
+
+		assertThat(mailSender.getSentMessages()).hasSize(3);
+		assertThat(mailScheduler.getQueueDepths().getOrDefault("slow.com", 0)).isZero();
+	}
+
+	@DisplayName("종료를 시작한 뒤 들어온 메일은 큐에 넣지 않고 바로 발송")
+	@Test
+	void submitAfterStopSendsDirectly() throws Exception {
+		RecordingMailSender mailSender = new RecordingMailSender();
+		MailScheduler mailScheduler = new MailScheduler(mailSender, 100, "", 1, 20);
+		mailScheduler.start();
+		mailScheduler.stop();
+
+		mailScheduler.submit("user@email.com", mimeMessage -> mimeMessage.setText("body"));
+
+		assertThat(mailSender.getSentMessages()).hasSize(1);
+		assertThat(mailScheduler.getQueueDepths()).isEmpty();
+	}
+
+	@DisplayName("한 도메인에 쌓인 메일은 발송 한도 안에서 한 번의 send 로 묶어 보냄")
+	@Test
+	void sendsBatchPerDomain() throws Exception {
+		RecordingMailSender mailSender = new RecordingMailSender();
+		MailScheduler mailScheduler = new MailScheduler(mailSender, 100, "", 1, 3);
+		for (int i = 0; i < 5; i++) {
+			mailScheduler.submit("user" + i + "@email.com", mimeMessage -> mimeMessage.setText("body"));
+		}
+
+		mailScheduler.start();
+		mailScheduler.stop();
+
+		assertThat(mailSender.batchSizes).containsExactly(3, 2);
+		assertThat(mailSender.getSentMessages()).hasSize(5);
+	}
+
+	static class RecordingMailSender extends ConsoleMailSender {
+		final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void send(MimeMessage... mimeMessages) {
+			batchSizes.add(mimeMessages.length);
+			super.send(mimeMessages);
+		}
+	}
+
+	@Test
+	void domainOf() {
+		assertThat(MailScheduler.domainOf("User@Gmail.COM")).isEqualTo("gmail.com");
+	}
+}
@@ -0,0 +1,82 @@
+package com.studyolle.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+class PooledSmtpMailSenderTest {
+	FakeSmtpServer server;
+	PooledSmtpMailSender mailSender;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		server = new FakeSmtpServer();
+		mailSender = new PooledSmtpMailSender(1);
+		mailSender.setHost("localhost");
+		mailSender.setPort(server.getPort());
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		mailSender.destroy();
+		server.close();
+	}
+
+	@DisplayName("여러 번 보내도 연결은 하나만 사용")
+	@Test
+	void reuseConnection() {
+		for (int i = 0; i < 5; i++) {
+			mailSender.send(message(i));
+		}
+
+		assertThat(server.getMessages()).isEqualTo(5);
+		assertThat(server.getConnections()).isEqualTo(1);
+	}
+
+	@DisplayName("여러 메시지를 한 번에 보내면 한 연결로 보냄")
+	@Test
+	void sendBatch() throws Exception {
+		MimeMessage[] messages = new MimeMessage[3];
+		for (int i = 0; i < messages.length; i++) {
+			messages[i] = mailSender.createMimeMessage();
+			MimeMessageHelper helper = new MimeMessageHelper(messages[i]);
+			helper.setFrom("no-reply@studyolle.com");
+			helper.setTo("user" + i + "@email.com");
+			helper.setSubject("subject");
+			helper.setText("text");
+		}
+
+		mailSender.send(messages);
+
+		assertThat(server.getMessages()).isEqualTo(3);
+		assertThat(server.getConnections()).isEqualTo(1);
+	}
+
+	@DisplayName("서버가 연결을 끊으면 새로 연결해서 보냄")
+	@Test
+	void recycleBrokenConnection() {
+		server.dropAfterMessage();
+
+		for (int i = 0; i < 3; i++) {
+			mailSender.send(message(i));
+		}
+
+		assertThat(server.getMessages()).isEqualTo(3);
+		assertThat(server.getConnections()).isEqualTo(3);
+	}
+
+	private SimpleMailMessage message(int i) {
+		SimpleMailMessage message = new SimpleMailMessage();
+		message.setFrom("no-reply@studyolle.com");
+		message.setTo("user" + i + "@email.com");
+		message.setSubject("subject");
+		message.setText("text");
+		return message;
+	}
+}
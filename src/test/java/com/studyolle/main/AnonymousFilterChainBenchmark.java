@@ -0,0 +1,37 @@
+package com.studyolle.main;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.studyolle.MicroBenchmark;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AnonymousFilterChainBenchmark {
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Test
+	@DisplayName("익명 로그인 페이지 요청 - 가벼운 체인과 전체 체인 비교")
+	void loginPage() throws Exception {
+		MicroBenchmark.run("GET /login full chain", 500, 5_000, () ->
+			mockMvc.perform(get("/login").with(request -> {
+				request.setRequestedSessionId("expired-session");
+				return request;
+			})).andExpect(status().isOk()));
+
+		MicroBenchmark.run("GET /login anonymous chain", 500, 5_000, () ->
+			mockMvc.perform(get("/login")).andExpect(status().isOk()));
+	}
+}
@@ -1,5 +1,7 @@
 package com.studyolle.main;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.anonymous;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -29,10 +31,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.test.context.support.WithAnonymousUser;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ITemplateResolver;
 
 @SpringBootTest
+@ActiveProfiles("test")
 @AutoConfigureMockMvc
 @Transactional
 class MainControllerTest {
@@ -43,6 +50,8 @@ class MainControllerTest {
     AccountService accountService;
     @Autowired
     AccountRepository accountRepository;
+    @Autowired
+    SpringTemplateEngine templateEngine;
 
     @BeforeEach
     void setUp() throws Exception {
@@ -145,4 +154,25 @@ class MainControllerTest {
             .andExpect(status().is3xxRedirection())
             .andExpect(cookie().doesNotExist("remember-me"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("쿠키 없는 익명 사용자는 세션 없이 로그인 페이지를 받음")
+    void loginPageWithoutSession() throws Exception {
+        MvcResult result = mockMvc.perform(get("/login"))
+            .andExpect(status().isOk())
+            .andExpect(cookie().exists("XSRF-TOKEN"))
+            .andExpect(unauthenticated())
+            .andReturn();
+
+        assertNull(result.getRequest().getSession(false));
+    }
+
+    @Test
+    @DisplayName("템플릿 캐시와 SpEL 컴파일러 사용 확인")
+    void productionRenderingMode() {
+        assertThat(templateEngine.getEnableSpringELCompiler()).isTrue();
+        for (ITemplateResolver resolver : templateEngine.getTemplateResolvers()) {
+            assertThat(resolver).hasFieldOrPropertyWithValue("cacheable", true);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.studyolle.main;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.studyolle.MicroBenchmark;
+import com.studyolle.account.AccountRepository;
+import com.studyolle.account.UserAccount;
+import com.studyolle.domain.Account;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Transactional
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class NavbarRenderBenchmark {
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	AccountRepository accountRepository;
+
+	@Autowired
+	NavbarFragmentCache navbarFragmentCache;
+
+	Account account;
+
+	@BeforeEach
+	void setUp() {
+		account = accountRepository.save(Account.builder()
+			.nickname("nickname")
+			.email("email@email.com")
+			.password("password")
+			.build());
+	}
+
+	@Test
+	@DisplayName("네비게이션 바 캐시 사용 전후 페이지 렌더링 비용")
+	void renderPage() throws Exception {
+		MicroBenchmark.run("page with live navbar", 200, 2000, () -> {
+			navbarFragmentCache.evict(account.getId());
+			renderIndex();
+		});
+		MicroBenchmark.run("page with cached navbar", 200, 2000, this::renderIndex);
+	}
+
+	private void renderIndex() throws Exception {
+		mockMvc.perform(get("/").with(user(new UserAccount(account))))
+			.andExpect(status().isOk());
+	}
+}
@@ -0,0 +1,53 @@
+package com.studyolle.main;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.studyolle.MicroBenchmark;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PageTransferSizeBenchmark {
+
+	@LocalServerPort
+	int port;
+
+	@ParameterizedTest(name = "{0}")
+	@ValueSource(strings = {"/", "/login", "/sign-up", "/email-login"})
+	@DisplayName("압축 전후 페이지 전송 바이트")
+	void transferSize(String path) throws IOException {
+		long identity = transferredBytes(path, "identity");
+		long gzip = transferredBytes(path, "gzip");
+
+		MicroBenchmark.report("%s: identity=%d bytes, gzip=%d bytes (%.0f%%)",
+			path, identity, gzip, gzip * 100d / identity);
+		assertThat(gzip).isLessThan(identity);
+	}
+
+	private long transferredBytes(String path, String acceptEncoding) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + path).openConnection();
+		connection.setRequestProperty("Accept-Encoding", acceptEncoding);
+		long total = 0;
+		try (InputStream body = connection.getInputStream()) {
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = body.read(buffer)) != -1) {
+				total += read;
+			}
+		} finally {
+			connection.disconnect();
+		}
+		return total;
+	}
+}
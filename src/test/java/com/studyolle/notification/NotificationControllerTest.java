@@ -0,0 +1,107 @@
+package com.studyolle.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+import com.studyolle.account.AccountRepository;
+import com.studyolle.account.UserAccount;
+import com.studyolle.domain.Account;
+import com.studyolle.domain.Notification;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Transactional
+class NotificationControllerTest {
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	AccountRepository accountRepository;
+
+	@Autowired
+	NotificationRepository notificationRepository;
+
+	Account account;
+
+	@BeforeEach
+	void setUp() {
+		account = accountRepository.save(Account.builder()
+			.nickname("nickname")
+			.email("email@email.com")
+			.password("password")
+			.build());
+		for (int i = 0; i < 2; i++) {
+			notificationRepository.save(Notification.builder()
+				.account(account)
+				.type(NotificationType.STUDY_UPDATED)
+				.title("스터디 공지 " + i)
+				.link("/study/spring")
+				.createdAt(LocalDateTime.now())
+				.build());
+		}
+	}
+
+	@Test
+	@DisplayName("읽지 않은 알림 목록")
+	void notifications() throws Exception {
+		mockMvc.perform(get("/notifications")
+			.with(user(new UserAccount(account)))
+		)
+			.andExpect(status().isOk())
+			.andExpect(view().name("notification/list"))
+			.andExpect(model().attribute("numberOfUnread", 2L))
+			.andExpect(model().attributeExists("notifications"));
+	}
+
+	@Test
+	@DisplayName("모두 읽음 처리")
+	void checkAll() throws Exception {
+		mockMvc.perform(post("/notifications/read")
+			.with(csrf())
+			.with(user(new UserAccount(account)))
+		)
+			.andExpect(status().is3xxRedirection())
+			.andExpect(redirectedUrl("/notifications"));
+
+		assertThat(notificationRepository.countByAccountIdAndChecked(account.getId(), false)).isZero();
+	}
+
+	@Test
+	@DisplayName("읽지 않은 알림 수 구독")
+	void stream() throws Exception {
+		mockMvc.perform(get("/notifications/stream")
+			.with(user(new UserAccount(account)))
+		)
+			.andExpect(status().isOk())
+			.andExpect(request().asyncStarted());
+	}
+
+	@Test
+	@DisplayName("익명 사용자 알림 접근 제한")
+	void anonymousNotifications() throws Exception {
+		mockMvc.perform(get("/notifications"))
+			.andExpect(status().is3xxRedirection())
+			.andExpect(redirectedUrlPattern("**/login"));
+	}
+}
@@ -0,0 +1,100 @@
+package com.studyolle.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.studyolle.account.AccountRepository;
+import com.studyolle.account.NotificationRecipient;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class NotificationDigestServiceTest {
+	AccountRepository accountRepository = mock(AccountRepository.class);
+	NotificationDigestMailer notificationDigestMailer = mock(NotificationDigestMailer.class);
+	NotificationDigestService notificationDigestService =
+		new NotificationDigestService(accountRepository, notificationDigestMailer, 1);
+
+	NotificationRecipient updatesOnly = recipient(1L, false, true);
+	NotificationRecipient everything = recipient(2L, true, true);
+
+	@BeforeEach
+	void setUp() {
+		given(accountRepository.findNotificationRecipientsByIdIn(List.of(1L))).willReturn(List.of(updatesOnly));
+		given(accountRepository.findNotificationRecipientsByIdIn(List.of(2L))).willReturn(List.of(everything));
+	}
+
+	@DisplayName("같은 알림은 합치고 받는 사람마다 한 통만 발송")
+	@Test
+	@SuppressWarnings("unchecked")
+	void deduplicatedDigest() {
+		notificationDigestService.onNotification(
+			new NotificationEvent(NotificationType.STUDY_UPDATED, List.of(1L, 2L), "스터디 공지", "/study/spring"));
+		notificationDigestService.onNotification(
+			new NotificationEvent(NotificationType.STUDY_UPDATED, List.of(1L, 2L), "스터디 공지 수정", "/study/spring"));
+		notificationDigestService.onNotification(
+			new NotificationEvent(NotificationType.STUDY_CREATED, List.of(1L, 2L), "새 스터디", "/study/jpa"));
+
+		notificationDigestService.sendDigests();
+
+		ArgumentCaptor<List<NotificationItem>> items = ArgumentCaptor.forClass(List.class);
+		verify(notificationDigestMailer).send(eq(updatesOnly), items.capture());
+		assertThat(items.getValue()).extracting(NotificationItem::getTitle).containsExactly("스터디 공지 수정");
+
+		verify(notificationDigestMailer).send(eq(everything), items.capture());
+		assertThat(items.getValue()).extracting(NotificationItem::getTitle).containsExactly("스터디 공지 수정", "새 스터디");
+		verify(accountRepository, times(2)).findNotificationRecipientsByIdIn(anyList());
+	}
+
+	@DisplayName("발송한 알림은 다음 주기에 다시 보내지 않음")
+	@Test
+	void windowIsCleared() {
+		notificationDigestService.onNotification(
+			new NotificationEvent(NotificationType.STUDY_UPDATED, List.of(1L), "스터디 공지", "/study/spring"));
+		notificationDigestService.sendDigests();
+
+		notificationDigestService.sendDigests();
+
+		verify(notificationDigestMailer, times(1)).send(any(), anyList());
+	}
+
+	@DisplayName("종료할 때 모아 둔 알림을 발송")
+	@Test
+	void flushOnShutdown() {
+		notificationDigestService.onNotification(
+			new NotificationEvent(NotificationType.STUDY_UPDATED, List.of(1L), "스터디 공지", "/study/spring"));
+
+		notificationDigestService.flush();
+
+		verify(notificationDigestMailer).send(eq(updatesOnly), anyList());
+	}
+
+	@DisplayName("이메일 알림을 끈 종류만 있으면 발송하지 않음")
+	@Test
+	void disabledByPreference() {
+		notificationDigestService.onNotification(
+			new NotificationEvent(NotificationType.STUDY_CREATED, List.of(1L), "새 스터디", "/study/jpa"));
+
+		notificationDigestService.sendDigests();
+
+		verify(notificationDigestMailer, never()).send(any(), anyList());
+	}
+
+	private NotificationRecipient recipient(Long id, boolean studyCreatedByEmail, boolean studyUpdatedByEmail) {
+		NotificationRecipient recipient = mock(NotificationRecipient.class);
+		given(recipient.getId()).willReturn(id);
+		given(recipient.isEmailVerified()).willReturn(true);
+		given(recipient.isStudyCreatedByEmail()).willReturn(studyCreatedByEmail);
+		given(recipient.isStudyUpdatedByEmail()).willReturn(studyUpdatedByEmail);
+		return recipient;
+	}
+}
@@ -0,0 +1,112 @@
+package com.studyolle.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.studyolle.account.AccountRepository;
+import com.studyolle.account.NotificationRecipient;
+import com.studyolle.domain.Account;
+import com.studyolle.domain.Notification;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class NotificationInboxServiceTest {
+	AccountRepository accountRepository = mock(AccountRepository.class);
+	NotificationRepository notificationRepository = mock(NotificationRepository.class);
+	NotificationPushService notificationPushService = mock(NotificationPushService.class);
+	UnreadNotificationCounter unreadNotificationCounter = new UnreadNotificationCounter(notificationRepository,
+		1000, 60000);
+	NotificationInboxService notificationInboxService = new NotificationInboxService(accountRepository,
+		notificationRepository, unreadNotificationCounter, notificationPushService,
+		mock(PlatformTransactionManager.class), 500);
+
+	@BeforeEach
+	void setUp() {
+		given(accountRepository.findNotificationRecipientsByIdIn(List.of(1L, 2L)))
+			.willReturn(List.of(recipient(1L, true), recipient(2L, false)));
+		given(accountRepository.getOne(anyLong()))
+			.willAnswer(invocation -> Account.builder().id(invocation.getArgument(0)).build());
+		given(notificationRepository.countByAccountIdAndChecked(1L, false)).willReturn(3L);
+	}
+
+	@DisplayName("웹 알림을 켠 계정에만 저장하고 읽지 않은 알림 수를 보냄")
+	@Test
+	@SuppressWarnings("unchecked")
+	void saveAndPush() {
+		notificationInboxService.onNotification(
+			new NotificationEvent(NotificationType.STUDY_UPDATED, List.of(1L, 2L), "스터디 공지", "/study/spring"));
+
+		ArgumentCaptor<List<Notification>> saved = ArgumentCaptor.forClass(List.class);
+		verify(notificationRepository).saveAll(saved.capture());
+		assertThat(saved.getValue()).extracting(notification -> notification.getAccount().getId()).containsExactly(1L);
+		verify(notificationPushService).push(1L, 3L);
+		verify(notificationPushService, never()).push(eq(2L), anyLong());
+	}
+
+	@DisplayName("읽지 않은 알림 수는 계정마다 한 번만 조회")
+	@Test
+	void countLoadedOnce() {
+		assertThat(notificationInboxService.countUnread(1L)).isEqualTo(3L);
+
+		notificationInboxService.onNotification(
+			new NotificationEvent(NotificationType.STUDY_UPDATED, List.of(1L, 2L), "스터디 공지", "/study/spring"));
+
+		assertThat(notificationInboxService.countUnread(1L)).isEqualTo(4L);
+		verify(notificationPushService).push(1L, 4L);
+		verify(notificationRepository, times(1)).countByAccountIdAndChecked(1L, false);
+	}
+
+	@DisplayName("모두 읽음 처리하면 0건을 보냄")
+	@Test
+	void checkAll() {
+		assertThat(notificationInboxService.countUnread(1L)).isEqualTo(3L);
+		given(notificationRepository.countByAccountIdAndChecked(1L, false)).willReturn(0L);
+
+		notificationInboxService.checkAll(1L);
+
+		assertThat(notificationInboxService.countUnread(1L)).isZero();
+		verify(notificationRepository).checkAll(1L);
+		verify(notificationPushService).push(1L, 0L);
+	}
+
+	@DisplayName("읽음 처리 직후 저장된 알림은 읽지 않은 수에 남음")
+	@Test
+	void checkAllKeepsNotificationSavedAfterUpdate() {
+		assertThat(notificationInboxService.countUnread(1L)).isEqualTo(3L);
+		given(notificationRepository.countByAccountIdAndChecked(1L, false)).willReturn(1L);
+
+		notificationInboxService.checkAll(1L);
+
+		assertThat(notificationInboxService.countUnread(1L)).isEqualTo(1L);
+		verify(notificationPushService).push(1L, 1L);
+	}
+
+	@DisplayName("만료된 읽지 않은 알림 수는 DB 에서 다시 셈")
+	@Test
+	void countReloadedAfterTtl() {
+		UnreadNotificationCounter expiring = new UnreadNotificationCounter(notificationRepository, 1000, 0);
+
+		assertThat(expiring.get(1L)).isEqualTo(3L);
+		given(notificationRepository.countByAccountIdAndChecked(1L, false)).willReturn(5L);
+
+		assertThat(expiring.get(1L)).isEqualTo(5L);
+		assertThat(expiring.add(1L, 1)).isEqualTo(5L);
+	}
+
+	private NotificationRecipient recipient(Long id, boolean studyUpdatedByWeb) {
+		NotificationRecipient recipient = mock(NotificationRecipient.class);
+		given(recipient.getId()).willReturn(id);
+		given(recipient.isStudyUpdatedByWeb()).willReturn(studyUpdatedByWeb);
+		return recipient;
+	}
+}
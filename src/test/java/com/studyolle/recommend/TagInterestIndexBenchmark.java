@@ -0,0 +1,71 @@
+package com.studyolle.recommend;
+
+import com.studyolle.MicroBenchmark;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * 100만 계정, 관심 주제 1000개(인기 주제에 몰리도록 분포)에서 HashSet 역색인과 비교한다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TagInterestIndexBenchmark {
+	static final int ACCOUNTS = 1_000_000;
+	static final int TAGS = 1_000;
+	static final int MAX_TAGS_PER_ACCOUNT = 8;
+	static final int LIMIT = 5;
+
+	@Test
+	void findSimilarWithMillionAccounts() throws Exception {
+		Random random = new Random(42);
+		Map<Long, Set<Long>> interests = new HashMap<>();
+		TagInterestIndex index = new TagInterestIndex();
+		Map<Long, Set<Long>> hashPostings = new HashMap<>();
+
+		long startedAt = System.nanoTime();
+		for (long accountId = 1; accountId <= ACCOUNTS; accountId++) {
+			Set<Long> tagIds = new HashSet<>();
+			int count = 1 + random.nextInt(MAX_TAGS_PER_ACCOUNT);
+			while (tagIds.size() < count) {
+				tagIds.add((long) Math.min(TAGS - 1, (int) (Math.pow(random.nextDouble(), 3) * TAGS)));
+			}
+			interests.put(accountId, tagIds);
+			for (Long tagId : tagIds) {
+				index.add(accountId, tagId);
+				hashPostings.computeIfAbsent(tagId, key -> new HashSet<>()).add(accountId);
+			}
+		}
+		MicroBenchmark.report("built %d accounts in %d ms, bitmap index %d KB", ACCOUNTS,
+			(System.nanoTime() - startedAt) / 1_000_000, index.getSizeInBytes() / 1024);
+
+		long[] queries = random.longs(1_000, 1, ACCOUNTS + 1).toArray();
+		int[] next = {0};
+		MicroBenchmark.run("TagInterestIndex.findSimilar", 50, 500,
+			() -> index.findSimilar(queries[next[0]++ % queries.length], LIMIT));
+		MicroBenchmark.run("HashSet postings", 50, 500,
+			() -> findSimilarWithHashSets(hashPostings, interests.get(queries[next[0]++ % queries.length])));
+
+		MicroBenchmark.run("TagInterestIndex.update", 1_000, 10_000, () -> {
+			long accountId = queries[next[0]++ % queries.length];
+			index.update(accountId, interests.get(accountId));
+		});
+	}
+
+	private List<Long> findSimilarWithHashSets(Map<Long, Set<Long>> postings, Set<Long> tagIds) {
+		Map<Long, Integer> counts = new HashMap<>();
+		for (Long tagId : tagIds) {
+			postings.get(tagId).forEach(accountId -> counts.merge(accountId, 1, Integer::sum));
+		}
+		return counts.entrySet().stream()
+			.sorted(Map.Entry.<Long, Integer>comparingByValue().reversed())
+			.limit(LIMIT)
+			.map(Map.Entry::getKey)
+			.collect(Collectors.toList());
+	}
+}
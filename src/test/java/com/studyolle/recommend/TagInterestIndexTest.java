@@ -0,0 +1,79 @@
+package com.studyolle.recommend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TagInterestIndexTest {
+	TagInterestIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new TagInterestIndex();
+		index.update(1L, Set.of(10L, 20L, 30L));
+		index.update(2L, Set.of(10L, 20L));
+		index.update(3L, Set.of(10L, 20L, 30L, 40L));
+		index.update(4L, Set.of(40L));
+		index.update(5L, Set.of(20L));
+	}
+
+	@Test
+	@DisplayName("겹치는 관심 주제가 많은 순, 같으면 먼저 가입한 순으로 추천하고 자신은 제외")
+	void findSimilar() {
+		assertThat(index.findSimilar(1L, 3))
+			.extracting(TagOverlap::getAccountId, TagOverlap::getCommonTags)
+			.containsExactly(tuple(3L, 3), tuple(2L, 2), tuple(5L, 1));
+	}
+
+	@Test
+	@DisplayName("관심 주제를 바꾸면 바뀐 주제만 반영")
+	void update() {
+		index.update(3L, Set.of(40L, 50L));
+
+		assertThat(index.getTagIds(3L)).containsExactlyInAnyOrder(40L, 50L);
+		assertThat(index.findSimilar(3L, 10)).extracting(TagOverlap::getAccountId).containsExactly(4L);
+		assertThat(index.findSimilar(1L, 10)).extracting(TagOverlap::getAccountId).containsExactly(2L, 5L);
+	}
+
+	@Test
+	@DisplayName("관심 주제가 없으면 추천하지 않고, 빈 주제는 색인에서 제거")
+	void noInterests() {
+		index.update(4L, Set.of());
+		index.update(3L, Set.of(10L));
+
+		assertThat(index.findSimilar(4L, 10)).isEmpty();
+		assertThat(index.getTagCount()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("container 경계를 넘는 id 와 배열, bitmap container 전환")
+	void containerConversion() {
+		AccountIdBitmap bitmap = new AccountIdBitmap();
+		List<Integer> values = new ArrayList<>();
+		for (int value = 0; value < 10_000; value++) {
+			values.add(value * 3);
+		}
+		values.add(1 << 20);
+		values.forEach(bitmap::add);
+
+		assertThat(bitmap.getCardinality()).isEqualTo(values.size());
+		assertThat(bitmap.contains(29_997)).isTrue();
+		assertThat(bitmap.contains(29_998)).isFalse();
+		assertThat(bitmap.getContainerCount()).isEqualTo(2);
+
+		for (int value = 0; value < 9_000; value++) {
+			assertThat(bitmap.remove(value * 3)).isTrue();
+		}
+		bitmap.remove(1 << 20);
+		List<Integer> remaining = new ArrayList<>();
+		bitmap.forEach(remaining::add);
+		assertThat(remaining).hasSize(1_000).startsWith(27_000).endsWith(29_997);
+		assertThat(bitmap.getSizeInBytes()).isLessThan(8192);
+	}
+}
@@ -0,0 +1,54 @@
+package com.studyolle.recommend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.studyolle.account.AccountRepository;
+import com.studyolle.account.AccountTagId;
+import com.studyolle.account.event.TagsUpdated;
+import com.studyolle.domain.Account;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TagInterestIndexerTest {
+	AccountRepository accountRepository = mock(AccountRepository.class);
+	TagInterestIndex tagInterestIndex = new TagInterestIndex();
+	TagInterestIndexer tagInterestIndexer = new TagInterestIndexer(accountRepository, tagInterestIndex);
+
+	@DisplayName("재구축 도중 지운 관심 주제는 재구축이 끝난 뒤에도 지워져 있음")
+	@Test
+	void updateDuringRebuild() {
+		Account account = Account.builder().id(1L).build();
+		given(accountRepository.findMaxId()).willReturn(1L);
+		given(accountRepository.findTagIdsByAccountIdBetween(anyLong(), anyLong())).willAnswer(invocation -> {
+			tagInterestIndexer.onTagsUpdated(new TagsUpdated(account, Set.of(20L)));
+			assertThat(tagInterestIndex.getTagIds(1L)).isEmpty();
+			return List.of(accountTag(1L, 10L), accountTag(1L, 20L));
+		});
+
+		tagInterestIndexer.rebuild();
+
+		assertThat(tagInterestIndex.getTagIds(1L)).containsExactly(20L);
+	}
+
+	@DisplayName("재구축이 끝난 뒤의 관심 주제 변경은 바로 적용")
+	@Test
+	void updateAfterRebuild() {
+		tagInterestIndexer.rebuild();
+
+		tagInterestIndexer.onTagsUpdated(new TagsUpdated(Account.builder().id(1L).build(), Set.of(10L)));
+
+		assertThat(tagInterestIndex.getTagIds(1L)).containsExactly(10L);
+	}
+
+	private AccountTagId accountTag(Long accountId, Long tagId) {
+		AccountTagId accountTag = mock(AccountTagId.class);
+		given(accountTag.getAccountId()).willReturn(accountId);
+		given(accountTag.getTagId()).willReturn(tagId);
+		return accountTag;
+	}
+}
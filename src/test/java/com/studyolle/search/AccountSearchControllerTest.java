@@ -0,0 +1,74 @@
+package com.studyolle.search;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class AccountSearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountSearchIndex accountSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        accountSearchIndex.index(9001L, "searchwhite", "자바 개발자", "개발자", "서울", List.of("Spring"));
+        accountSearchIndex.index(9002L, "searchkee", "프론트엔드 개발자", "개발자", "부산", List.of("React"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountSearchIndex.remove(9001L);
+        accountSearchIndex.remove(9002L);
+    }
+
+    @DisplayName("검색어를 모두 포함한 계정을 페이지로 조회")
+    @Test
+    void searchAccount() throws Exception {
+        mockMvc.perform(get("/search/account")
+                .param("keyword", "search 서울")
+                .with(user("member")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(1))
+            .andExpect(jsonPath("$.content[0].id").value(9001))
+            .andExpect(jsonPath("$.content[0].nickname").value("searchwhite"));
+    }
+
+    @DisplayName("페이지 크기를 지정해 조회")
+    @Test
+    void searchAccountWithPaging() throws Exception {
+        mockMvc.perform(get("/search/account")
+                .param("keyword", "search")
+                .param("size", "1")
+                .param("page", "1")
+                .with(user("member")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(2))
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.content[0].nickname").value("searchkee"));
+    }
+
+    @DisplayName("로그인하지 않으면 검색할 수 없음")
+    @Test
+    void searchAccountWithoutLogin() throws Exception {
+        mockMvc.perform(get("/search/account").param("keyword", "search"))
+            .andExpect(status().is3xxRedirection());
+    }
+}
@@ -0,0 +1,71 @@
+package com.studyolle.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+class AccountSearchIndexTest {
+	AccountSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new AccountSearchIndex();
+		index.index(1L, "whiteship", "자바 백엔드 개발자", "개발자", "서울", List.of("Spring", "JPA"));
+		index.index(2L, "keesun", "프론트엔드 개발자", "개발자", "부산", List.of("React"));
+		index.index(3L, "jinhyeok", "학생", "취준생", "서울", List.of());
+	}
+
+	@Test
+	@DisplayName("닉네임 일부로 검색")
+	void searchByNickname() {
+		assertThat(ids(index.search("white", PageRequest.of(0, 10)))).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("한글 부분 문자열과 여러 검색어는 모두 포함된 계정만 검색")
+	void searchWithMultipleKeywords() {
+		assertThat(ids(index.search("개발", PageRequest.of(0, 10)))).containsExactly(1L, 2L);
+		assertThat(ids(index.search("개발 서울", PageRequest.of(0, 10)))).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("한 글자 검색어는 그 글자를 포함한 계정을 검색")
+	void searchWithSingleCharacter() {
+		assertThat(ids(index.search("j", PageRequest.of(0, 10)))).containsExactly(1L, 3L);
+		assertThat(ids(index.search("학", PageRequest.of(0, 10)))).containsExactly(3L);
+		assertThat(ids(index.search("q", PageRequest.of(0, 10)))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("관심 주제로 검색")
+	void searchByTag() {
+		assertThat(ids(index.search("spring", PageRequest.of(0, 10)))).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("페이지 단위 검색")
+	void searchWithPaging() {
+		Page<AccountSearchResult> page = index.search("서울", PageRequest.of(1, 1));
+
+		assertThat(page.getTotalElements()).isEqualTo(2);
+		assertThat(ids(page)).containsExactly(3L);
+	}
+
+	@Test
+	@DisplayName("다시 색인하면 이전 내용으로는 검색되지 않음")
+	void reindex() {
+		index.index(3L, "jinhyeok", "백엔드 개발자", "개발자", "대전", List.of());
+
+		assertThat(ids(index.search("학생", PageRequest.of(0, 10)))).isEmpty();
+		assertThat(ids(index.search("대전", PageRequest.of(0, 10)))).containsExactly(3L);
+	}
+
+	private List<Long> ids(Page<AccountSearchResult> page) {
+		return page.map(AccountSearchResult::getId).getContent();
+	}
+}
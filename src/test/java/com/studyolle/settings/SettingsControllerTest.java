@@ -1,25 +1,34 @@
 package com.studyolle.settings;
 
+import static com.studyolle.SqlStatementBudget.maxStatements;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.endsWith;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import com.studyolle.account.AccountRepository;
 import com.studyolle.account.UserAccount;
 import com.studyolle.domain.Account;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @SpringBootTest
+@ActiveProfiles("test")
 @AutoConfigureMockMvc
 @Transactional
 class SettingsControllerTest {
@@ -45,6 +54,11 @@ class SettingsControllerTest {
 		accountRepository.save(account);
 	}
 
+	@AfterEach
+	void tearDown() {
+		accountRepository.deleteAll();
+	}
+
 	@Test
 	@DisplayName("프로필 업데이트 폼 페이지")
 	void profileUpdateForm() throws Exception {
@@ -66,6 +80,7 @@ class SettingsControllerTest {
 	}
 
 	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	@DisplayName("프로필 정상적인 업데이트")
 	void profileUpdate() throws Exception {
 		mockMvc.perform(post("/settings/profile")
@@ -75,18 +90,113 @@ class SettingsControllerTest {
 			.param("location", "new location")
 			.param("occupation", "new occupation")
 			.param("url", "new url")
-			.param("profileImage", "new profileImage")
+			.param("profileImage", "/profile-images/forged.png")
 		)
 			.andExpect(status().is3xxRedirection())
 			.andExpect(view().name("redirect:/settings/profile"))
-			.andExpect(flash().attributeExists("message"));
+			.andExpect(flash().attributeExists("message"))
+			.andExpect(maxStatements(2));
 
 		Account updatedAccount = accountRepository.findByNickname("nickname");
 		assertThat(updatedAccount.getBio()).isEqualTo("new bio");
 		assertThat(updatedAccount.getUrl()).isEqualTo("new url");
 		assertThat(updatedAccount.getLocation()).isEqualTo("new location");
 		assertThat(updatedAccount.getOccupation()).isEqualTo("new occupation");
-		assertThat(updatedAccount.getProfileImage()).isEqualTo("new profileImage");
+		assertThat(updatedAccount.getProfileImage()).isNull();
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	@DisplayName("SQL 문 예산을 넘으면 실패")
+	void profileUpdateOverStatementBudget() {
+		assertThatThrownBy(() -> mockMvc.perform(post("/settings/profile")
+			.with(csrf())
+			.with(user(new UserAccount(account)))
+			.param("bio", "new bio")
+		)
+			.andExpect(maxStatements(1)))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("SQL 문 2개");
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	@DisplayName("다른 세션에서 먼저 수정한 뒤에도 프로필 업데이트")
+	void profileUpdateFromTwoSessions() throws Exception {
+		UserAccount laptop = new UserAccount(accountRepository.findByNickname("nickname"));
+		UserAccount phone = new UserAccount(accountRepository.findByNickname("nickname"));
+
+		mockMvc.perform(post("/settings/profile")
+			.with(csrf())
+			.with(user(laptop))
+			.param("bio", "laptop bio")
+		)
+			.andExpect(status().is3xxRedirection());
+		mockMvc.perform(post("/settings/profile")
+			.with(csrf())
+			.with(user(phone))
+			.param("bio", "phone bio")
+		)
+			.andExpect(status().is3xxRedirection())
+			.andExpect(flash().attributeExists("message"));
+
+		Account updatedAccount = accountRepository.findByNickname("nickname");
+		assertThat(updatedAccount.getBio()).isEqualTo("phone bio");
+		assertThat(phone.getAccount().getVersion()).isEqualTo(updatedAccount.getVersion());
+	}
+
+	@Test
+	@DisplayName("프로필 이미지 업로드")
+	void profileImageUpdate() throws Exception {
+		byte[] png = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 13};
+		MockMultipartFile image = new MockMultipartFile("image", "profile.png", "application/octet-stream", png);
+
+		mockMvc.perform(multipart("/settings/profile/image")
+			.file(image)
+			.with(csrf())
+			.with(user(new UserAccount(account)))
+		)
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.profileImage").value(endsWith(".png")));
+
+		Account updatedAccount = accountRepository.findByNickname("nickname");
+		assertThat(updatedAccount.getProfileImage()).startsWith("/profile-images/");
+		mockMvc.perform(get(updatedAccount.getProfileImage()))
+			.andExpect(status().isOk())
+			.andExpect(header().string("X-Content-Type-Options", "nosniff"));
+	}
+
+	@Test
+	@DisplayName("Content-Type 만 이미지인 파일은 업로드 거부")
+	void profileImageUpdateWithSpoofedContentType() throws Exception {
+		MockMultipartFile image = new MockMultipartFile("image", "profile.png", "image/png",
+			"<script>alert(1)</script>".getBytes());
+
+		mockMvc.perform(multipart("/settings/profile/image")
+			.file(image)
+			.with(csrf())
+			.with(user(new UserAccount(account)))
+		)
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.error").exists());
+
+		assertThat(accountRepository.findByNickname("nickname").getProfileImage()).isNull();
+	}
+
+	@Test
+	@DisplayName("지원하지 않는 형식의 프로필 이미지 업로드")
+	void profileImageUpdateWithUnsupportedType() throws Exception {
+		MockMultipartFile image = new MockMultipartFile("image", "profile.gif", "image/gif", "GIF89a".getBytes());
+
+		mockMvc.perform(multipart("/settings/profile/image")
+			.file(image)
+			.with(csrf())
+			.with(user(new UserAccount(account)))
+		)
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.error").exists());
+
+		assertThat(accountRepository.findByNickname("nickname").getProfileImage()).isNull();
 	}
 
 	@Test
@@ -137,6 +247,27 @@ class SettingsControllerTest {
 	    assertThat(passwordEncoder.matches("newPassword", updatedAccount.getPassword())).isTrue();
 	}
 
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	@DisplayName("패스워드 변경은 세션 사본의 credentialVersion 도 한 번만 올림")
+	void updatePasswordFromDetachedSession() throws Exception {
+		UserAccount session = new UserAccount(accountRepository.findByNickname("nickname"));
+
+		mockMvc.perform(post("/settings/password")
+			.with(user(session))
+			.with(csrf())
+			.param("newPassword", "newPassword")
+			.param("newPasswordConfirm", "newPassword")
+		)
+			.andExpect(status().is3xxRedirection());
+
+		Account updatedAccount = accountRepository.findByNickname("nickname");
+		assertThat(updatedAccount.getCredentialVersion()).isEqualTo(1L);
+		assertThat(session.getAccount().getCredentialVersion()).isEqualTo(1L);
+		assertThat(session.getAccount().getPassword()).isEqualTo(updatedAccount.getPassword());
+		assertThat(session.getAccount().getVersion()).isEqualTo(updatedAccount.getVersion());
+	}
+
 	@Test
 	@DisplayName("잘못된 패스워드 변경")
 	void updatePasswordFail() throws Exception {
@@ -280,4 +411,46 @@ class SettingsControllerTest {
 	    assertThat(accountRepository.findByNickname("nickname")).isNotNull();
 	    assertThat(accountRepository.findByNickname("has space")).isNull();
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("관심 주제 수정 폼 페이지")
+	void tagsUpdateForm() throws Exception {
+		mockMvc.perform(get("/settings/tags")
+			.with(user(new UserAccount(account)))
+		)
+			.andExpect(status().isOk())
+			.andExpect(model().attributeExists("account"))
+			.andExpect(model().attributeExists("tagsForm"))
+			.andExpect(view().name("settings/tags"));
+	}
+
+	@Test
+	@DisplayName("관심 주제 수정")
+	void tagsUpdate() throws Exception {
+		mockMvc.perform(post("/settings/tags")
+			.with(csrf())
+			.with(user(new UserAccount(account)))
+			.param("tags", "Spring, JPA, Spring")
+		)
+			.andExpect(status().is3xxRedirection())
+			.andExpect(view().name("redirect:/settings/tags"))
+			.andExpect(flash().attributeExists("message"));
+
+		assertThat(accountRepository.findTagTitlesById(account.getId())).containsExactly("JPA", "Spring");
+	}
+
+	@Test
+	@DisplayName("관심 주제 수정 - 입력값 에러")
+	void tagsUpdateWithTooLongTitle() throws Exception {
+		mockMvc.perform(post("/settings/tags")
+			.with(csrf())
+			.with(user(new UserAccount(account)))
+			.param("tags", "Spring, abcdefghijklmnopqrstu")
+		)
+			.andExpect(status().isOk())
+			.andExpect(view().name("settings/tags"))
+			.andExpect(model().hasErrors());
+
+		assertThat(accountRepository.findTagTitlesById(account.getId())).isEmpty();
+	}
+}